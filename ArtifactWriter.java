@@ -0,0 +1,211 @@
+package com.epam.test.utils;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Class writes artifacts of failed tests in background. The test thread only
+ * passes raw bytes; they are compressed and written by the bounded pool of
+ * writer threads. If the queue of the pool is full the artifact is dropped
+ * instead of blocking of the test. Identical screenshots are written once,
+ * next ones are written as references to the first one. Total size of the
+ * written artifacts is limited per suite. The writer is configured by system
+ * properties: artifacts.dir, artifacts.max.mb, artifacts.threads and
+ * artifacts.queue
+ *
+ * @author Natalia Amelina
+ */
+public final class ArtifactWriter {
+
+	private static final StructuredLogger LOG = StructuredLogger.getLogger(ArtifactWriter.class);
+
+	private static final String PROP_DIR = "artifacts.dir";
+	private static final String PROP_MAX_MB = "artifacts.max.mb";
+	private static final String PROP_THREADS = "artifacts.threads";
+	private static final String PROP_QUEUE = "artifacts.queue";
+	private static final String DEFAULT_DIR = "target/failures";
+	private static final int DEFAULT_MAX_MB = 200;
+	private static final int DEFAULT_THREADS = 2;
+	private static final int DEFAULT_QUEUE = 32;
+
+	private static final String SCREENSHOT_SUFFIX = ".png";
+	private static final String COMPRESSED_SUFFIX = ".gz";
+	private static final String REFERENCE_SUFFIX = ".ref";
+
+	private static ArtifactWriter instance;
+
+	private final File dir;
+	private final long maxBytes;
+	private final ThreadPoolExecutor executor;
+	private final AtomicLong written = new AtomicLong();
+	private final AtomicLong dropped = new AtomicLong();
+	private final Map<String, File> screenshots = new ConcurrentHashMap<>();
+
+	private ArtifactWriter(File dir, long maxBytes, int threads, int queue) {
+		this.dir = dir;
+		this.maxBytes = maxBytes;
+		executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+		        new ArrayBlockingQueue<Runnable>(queue), new ThreadFactory() {
+			        @Override
+			        public Thread newThread(Runnable task) {
+				        Thread thread = new Thread(task, "artifact-writer");
+				        thread.setDaemon(true);
+				        thread.setPriority(Thread.MIN_PRIORITY);
+				        return thread;
+			        }
+		        }, new RejectedExecutionHandler() {
+			        @Override
+			        public void rejectedExecution(Runnable task, ThreadPoolExecutor pool) {
+				        dropped.incrementAndGet();
+				        LOG.warn("Queue of artifacts is full, artifact is dropped");
+			        }
+		        });
+	}
+
+	/**
+	 * Method for get writer of the suite. The writer is created at the first
+	 * call and after the previous writer is shut down, so every suite of the
+	 * JVM gets running writer with its own size limit
+	 *
+	 * @return the only writer of the suite
+	 */
+	public static synchronized ArtifactWriter inst() {
+		if (instance == null) {
+			instance = new ArtifactWriter(new File(System.getProperty(PROP_DIR, DEFAULT_DIR)),
+			        Integer.getInteger(PROP_MAX_MB, DEFAULT_MAX_MB) * 1024L * 1024L,
+			        Integer.getInteger(PROP_THREADS, DEFAULT_THREADS), Integer.getInteger(PROP_QUEUE, DEFAULT_QUEUE));
+		}
+		return instance;
+	}
+
+	/**
+	 * Method passes text artifact to the writer. The method doesn't wait for
+	 * writing
+	 *
+	 * @param test
+	 *            - name of the failed test
+	 * @param name
+	 *            - name of the artifact, e.g. dialog.html
+	 * @param text
+	 *            - content of the artifact
+	 */
+	public void submit(String test, String name, String text) {
+		if (text != null) {
+			submit(test, name, text.getBytes(StandardCharsets.UTF_8));
+		}
+	}
+
+	/**
+	 * Method passes artifact to the writer. The method doesn't wait for
+	 * writing
+	 *
+	 * @param test
+	 *            - name of the failed test
+	 * @param name
+	 *            - name of the artifact, e.g. screenshot.png
+	 * @param data
+	 *            - content of the artifact
+	 */
+	public void submit(final String test, final String name, final byte[] data) {
+		if (data == null) {
+			return;
+		}
+		if (written.get() >= maxBytes) {
+			dropped.incrementAndGet();
+			LOG.debug("Size limit of artifacts is reached, artifact is dropped", "test", test, "artifact", name);
+			return;
+		}
+		executor.execute(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					write(test, name, data);
+				} catch (IOException | RuntimeException e) {
+					LOG.warn("Artifact isn't written", "test", test, "artifact", name, "error", e.getMessage());
+				}
+			}
+		});
+	}
+
+	/**
+	 * Method waits until the submitted artifacts are written and stops the
+	 * writer threads. The next call of {@link #inst()} creates new writer
+	 *
+	 * @param timeoutSeconds
+	 *            - maximal time of the wait
+	 */
+	public void shutdown(long timeoutSeconds) {
+		synchronized (ArtifactWriter.class) {
+			if (instance == this) {
+				instance = null;
+			}
+		}
+		executor.shutdown();
+		try {
+			if (!executor.awaitTermination(timeoutSeconds, TimeUnit.SECONDS)) {
+				LOG.warn("Artifacts aren't written in time", "timeoutSeconds", timeoutSeconds);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		LOG.info("Artifacts of failed tests are written", "dir", dir.getAbsolutePath(), "bytes", written.get(),
+		        "dropped", dropped.get());
+	}
+
+	private void write(String test, String name, byte[] data) throws IOException {
+		File testDir = new File(dir, test.replaceAll("[^\\w.-]+", "_"));
+		if (!testDir.isDirectory() && !testDir.mkdirs()) {
+			throw new IOException("Directory isn't created: " + testDir);
+		}
+		File file = new File(testDir, name + COMPRESSED_SUFFIX);
+
+		if (name.endsWith(SCREENSHOT_SUFFIX)) {
+			File first = screenshots.putIfAbsent(hashOf(data), file);
+			if (first != null) {
+				// the same screen is already written for another failure
+				writeFile(new File(testDir, name + REFERENCE_SUFFIX),
+				        first.getAbsolutePath().getBytes(StandardCharsets.UTF_8), false);
+				return;
+			}
+		}
+		writeFile(file, data, true);
+	}
+
+	private void writeFile(File file, byte[] data, boolean compress) throws IOException {
+		try (OutputStream output = compress ? new GZIPOutputStream(new FileOutputStream(file))
+		        : new FileOutputStream(file)) {
+			output.write(data);
+		}
+		long size = written.addAndGet(file.length());
+		if (size > maxBytes) {
+			LOG.warn("Size limit of artifacts is reached", "bytes", size);
+		}
+	}
+
+	private static String hashOf(byte[] data) {
+		try {
+			StringBuilder result = new StringBuilder();
+			for (byte item : MessageDigest.getInstance("SHA-256").digest(data)) {
+				result.append(String.format("%02x", item));
+			}
+			return result.toString();
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 isn't supported", e);
+		}
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,101 @@
+package com.epam.test.benchmark;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.Properties;
+import java.util.TreeSet;
+
+/**
+ * Class runs benchmarks of the service layer and business objects and stores
+ * their results. Results are written to benchmarks/results directory as JMH
+ * JSON report and as scores by benchmark name. If baseline scores are
+ * present, every benchmark is compared with its baseline and the run fails
+ * if any benchmark is slower than allowed
+ *
+ * Usage: BenchmarkRunner [label [baseline label]], e.g. "pr-123 baseline"
+ *
+ * @author Natalia Amelina
+ */
+public final class BenchmarkRunner {
+
+	private static final StructuredLogger LOG = StructuredLogger.getLogger(BenchmarkRunner.class);
+
+	private static final String RESULTS_DIR = "benchmarks/results";
+	private static final String DEFAULT_LABEL = "current";
+	private static final String DEFAULT_BASELINE = "baseline";
+	private static final String PROP_REGRESSION = "benchmark.regression.percent";
+	private static final double DEFAULT_REGRESSION = 10;
+
+	private BenchmarkRunner() {
+	}
+
+	public static void main(String[] args) throws RunnerException, IOException {
+		String label = args.length > 0 ? args[0] : DEFAULT_LABEL;
+		String baselineLabel = args.length > 1 ? args[1] : DEFAULT_BASELINE;
+		File dir = new File(RESULTS_DIR);
+		if (!dir.isDirectory() && !dir.mkdirs()) {
+			throw new IOException("Directory isn't created: " + dir.getAbsolutePath());
+		}
+
+		Options options = new OptionsBuilder()
+		        .include("com\\.epam\\.test\\..*Benchmark")
+		        .resultFormat(ResultFormatType.JSON)
+		        .result(new File(dir, label + ".json").getPath())
+		        .build();
+		Collection<RunResult> results = new Runner(options).run();
+
+		Properties scores = new Properties();
+		for (RunResult result : results) {
+			scores.setProperty(result.getParams().getBenchmark(),
+			        String.valueOf(result.getPrimaryResult().getScore()));
+		}
+		try (OutputStream output = new FileOutputStream(new File(dir, label + ".properties"))) {
+			scores.store(output, "Average time of benchmarks, label " + label);
+		}
+
+		File baselineFile = new File(dir, baselineLabel + ".properties");
+		if (!label.equals(baselineLabel) && baselineFile.isFile()) {
+			Properties baseline = new Properties();
+			try (InputStream input = new FileInputStream(baselineFile)) {
+				baseline.load(input);
+			}
+			if (!compare(baseline, scores)) {
+				throw new IllegalStateException("Benchmarks are slower than " + baselineLabel + " by more than "
+				        + System.getProperty(PROP_REGRESSION, String.valueOf(DEFAULT_REGRESSION)) + "%");
+			}
+		}
+	}
+
+	/**
+	 * Method for comparison of scores with baseline. Lower score is better
+	 *
+	 * @return true if no benchmark is slower than baseline by more than
+	 *         allowed percent; false otherwise
+	 */
+	private static boolean compare(Properties baseline, Properties scores) {
+		double allowed = Double.parseDouble(System.getProperty(PROP_REGRESSION, String.valueOf(DEFAULT_REGRESSION)));
+		boolean result = true;
+		for (String benchmark : new TreeSet<>(scores.stringPropertyNames())) {
+			String base = baseline.getProperty(benchmark);
+			if (base == null) {
+				LOG.info("Benchmark has no baseline", "benchmark", benchmark);
+				continue;
+			}
+			double change = (Double.parseDouble(scores.getProperty(benchmark)) / Double.parseDouble(base) - 1) * 100;
+			boolean regression = change > allowed;
+			result &= !regression;
+			if (regression) {
+				LOG.warn("Benchmark REGRESSION", "benchmark", benchmark, "changePercent", Math.round(change * 10) / 10.0);
+			} else {
+				LOG.info("Benchmark is compared", "benchmark", benchmark, "changePercent", Math.round(change * 10) / 10.0);
+			}
+		}
+		return result;
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,178 @@
+package com.epam.test.metrics;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Class collects latencies of web driver commands of the run. Every command
+ * is attributed to the test and to the service method which sent it; for
+ * every pair of test and service method the latency histogram, count of
+ * commands and time of waits are kept
+ *
+ * @author Natalia Amelina
+ */
+public final class CommandMetrics {
+
+	private static final CommandMetrics INSTANCE = new CommandMetrics();
+
+	private static final String NO_TEST = "-";
+
+	private final Map<String, MethodStats> stats = new ConcurrentHashMap<>();
+	private final ThreadLocal<String> currentTest = new ThreadLocal<>();
+
+	private CommandMetrics() {
+	}
+
+	/**
+	 * Method for get instance of metrics
+	 *
+	 * @return the only instance of metrics
+	 */
+	public static CommandMetrics inst() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Method for set the test which is run by the current thread
+	 *
+	 * @param test
+	 *            - name of the test; null if no test is run
+	 */
+	public void setCurrentTest(String test) {
+		if (test == null) {
+			currentTest.remove();
+		} else {
+			currentTest.set(test);
+		}
+	}
+
+	/**
+	 * Method for get the test which is run by the current thread
+	 *
+	 * @return name of the test; "-" if no test is run
+	 */
+	public String getCurrentTest() {
+		String test = currentTest.get();
+		return test == null ? NO_TEST : test;
+	}
+
+	/**
+	 * Method for adding of web driver command
+	 *
+	 * @param serviceMethod
+	 *            - service method which sent the command
+	 * @param command
+	 *            - name of the command
+	 * @param nanos
+	 *            - latency of the command in nanoseconds
+	 * @param wait
+	 *            - true if the command waits for the page, e.g. finds element
+	 *            with implicit wait
+	 */
+	public void record(String serviceMethod, String command, long nanos, boolean wait) {
+		statsOf(getCurrentTest(), serviceMethod).record(command, nanos, wait);
+	}
+
+	/**
+	 * Method for adding of explicit wait which isn't a web driver command
+	 *
+	 * @param serviceMethod
+	 *            - service method which waited
+	 * @param nanos
+	 *            - time of the wait in nanoseconds
+	 */
+	public void recordWait(String serviceMethod, long nanos) {
+		statsOf(getCurrentTest(), serviceMethod).recordWait(nanos);
+	}
+
+	/**
+	 * Method for writing of all metrics to the file in CSV format
+	 *
+	 * @param file
+	 *            - file for the metrics
+	 * @throws IOException
+	 *             if the file can't be written
+	 */
+	public void export(File file) throws IOException {
+		File dir = file.getAbsoluteFile().getParentFile();
+		if (!dir.isDirectory() && !dir.mkdirs()) {
+			throw new IOException("Directory isn't created: " + dir);
+		}
+		try (PrintWriter writer = new PrintWriter(file, StandardCharsets.UTF_8.name())) {
+			writer.println("test,serviceMethod,commands,totalMs,waitMs,p50Ms,p95Ms,p99Ms,maxMs,topCommands");
+			for (Map.Entry<String, MethodStats> entry : new TreeMap<>(stats).entrySet()) {
+				MethodStats methodStats = entry.getValue();
+				LatencyHistogram histogram = methodStats.histogram;
+				writer.println(String.format("%s,%d,%.1f,%.1f,%.1f,%.1f,%.1f,%.1f,\"%s\"", entry.getKey(),
+				        histogram.getCount(), millis(histogram.getTotalNanos()), millis(methodStats.getWaitNanos()),
+				        millis(histogram.getPercentile(50)), millis(histogram.getPercentile(95)),
+				        millis(histogram.getPercentile(99)), millis(histogram.getMaxNanos()),
+				        methodStats.getCommandCounts()));
+			}
+		}
+	}
+
+	/**
+	 * Method removes all collected metrics
+	 */
+	public void reset() {
+		stats.clear();
+	}
+
+	private MethodStats statsOf(String test, String serviceMethod) {
+		String key = test + "," + serviceMethod;
+		MethodStats result = stats.get(key);
+		if (result == null) {
+			MethodStats created = new MethodStats();
+			result = stats.putIfAbsent(key, created);
+			if (result == null) {
+				result = created;
+			}
+		}
+		return result;
+	}
+
+	private static double millis(long nanos) {
+		return nanos / 1000000.0;
+	}
+
+	/**
+	 * Class contains metrics of one service method in one test
+	 */
+	private static final class MethodStats {
+
+		private final LatencyHistogram histogram = new LatencyHistogram();
+		private final Map<String, Long> commandCounts = new TreeMap<>();
+		private long waitNanos;
+
+		void record(String command, long nanos, boolean wait) {
+			histogram.record(nanos);
+			synchronized (this) {
+				Long current = commandCounts.get(command);
+				commandCounts.put(command, current == null ? 1 : current + 1);
+				if (wait) {
+					waitNanos += nanos;
+				}
+			}
+		}
+
+		synchronized void recordWait(long nanos) {
+			waitNanos += nanos;
+		}
+
+		synchronized long getWaitNanos() {
+			return waitNanos;
+		}
+
+		synchronized String getCommandCounts() {
+			return commandCounts.toString();
+		}
+
+	}
+
+}
\ No newline at end of file
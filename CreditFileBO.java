@@ -1,6 +1,8 @@
 package com.epam.test.bo;
 
-import java.util.logging.Logger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 
 /**
  * Class contains values of Credit File page fields
@@ -9,7 +11,7 @@ import java.util.logging.Logger;
  */
 public class CreditFileBO {
 
-	private static final Logger LOG = Logger.getLogger(CreditFileBO.class);
+	private static final StructuredLogger LOG = StructuredLogger.getLogger(CreditFileBO.class);
 
 	private String code;
 	private String accountNumber;
@@ -107,7 +109,6 @@ public class CreditFileBO {
 	 */
 	@Override
 	public String toString() {
-		LOG.debug("Converting object to String representation");
 		StringBuilder result = new StringBuilder();
 
 		result.append(code).append(CharacterConstants.VERTICAL_LINE)
@@ -115,24 +116,70 @@ public class CreditFileBO {
 		        .append(date).append(CharacterConstants.VERTICAL_LINE)
 		        .append(print);
 
-		LOG.debug("Credit File = " + result);
 		return result.toString();
 	}
 
 	/**
-	 * Method for comparison String of current object with String of other
-	 * object
+	 * Method for comparison of all fields of current object with fields of
+	 * other object
+	 *
+	 * @param obj
+	 *            - object to compare
+	 * @return true if the object is Credit File with the same values of all
+	 *         fields, false otherwise
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof CreditFileBO)) {
+			return false;
+		}
+		CreditFileBO other = (CreditFileBO) obj;
+		return print == other.isPrint() && Objects.equals(code, other.getCode())
+		        && Objects.equals(accountNumber, other.getAccountNumber()) && Objects.equals(date, other.getDate())
+		        && Objects.equals(remarks, other.getRemarks());
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(code, accountNumber, date, remarks, print);
+	}
+
+	/**
+	 * Method for comparison of current object with expected one field by field
 	 *
 	 * @param expected
 	 *            - object to compare
-	 * @return true if the expected object represents a String equivalent to
-	 *         String of this object, false otherwise
+	 * @return list of fields which values differ; empty list if objects are
+	 *         equal
 	 */
-	public boolean equals(CreditFileBO expected) {
-		LOG.debug(String.format("Compare: Actual = %s; Expected = %s ", this.toString(), expected.toString()));
-		boolean result = this.toString().equals(expected.toString());
-		LOG.debug("Result of comparison = " + result);
+	public List<CreditFileDiff> diff(CreditFileBO expected) {
+		List<CreditFileDiff> result = new ArrayList<>();
+		addDiff(result, CreditFileDiff.CODE, expected.getCode(), code);
+		addDiff(result, CreditFileDiff.ACCOUNT_NUMBER, expected.getAccountNumber(), accountNumber);
+		addDiff(result, CreditFileDiff.DATE, expected.getDate(), date);
+		addDiff(result, CreditFileDiff.REMARKS, expected.getRemarks(), remarks);
+		addDiff(result, CreditFileDiff.PRINT, expected.isPrint(), print);
+		LOG.debug("Differences of Credit Files", "differences", result);
 		return result;
 	}
 
+	/**
+	 * Method creates immutable copy of current object, e.g. to use it as a key
+	 * of hash based collections
+	 *
+	 * @return immutable Credit File with the same values
+	 */
+	public ImmutableCreditFileBO toImmutable() {
+		return new ImmutableCreditFileBO(code, accountNumber, date, remarks, print);
+	}
+
+	private static void addDiff(List<CreditFileDiff> diffs, String field, Object expected, Object actual) {
+		if (!Objects.equals(expected, actual)) {
+			diffs.add(new CreditFileDiff(field, expected, actual));
+		}
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,78 @@
+package com.epam.test.bo;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of comparison and string representing of Credit File business
+ * objects. They are run in-process without browser
+ *
+ * @author Natalia Amelina
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CreditFileBOBenchmark {
+
+	private static final int RECORDS = 1000;
+
+	private CreditFileBO actual;
+	private CreditFileBO expected;
+	private CreditFileBO different;
+	private List<CreditFileBO> records;
+
+	/**
+	 * Method creates Credit Files for comparison
+	 */
+	@Setup(Level.Trial)
+	public void create() {
+		actual = new CreditFileBO("TRADE", "1001", "01/15/2027", "Benchmark remarks", true);
+		expected = new CreditFileBO("TRADE", "1001", "01/15/2027", "Benchmark remarks", true);
+		different = new CreditFileBO("TRADE", "1001", "01/16/2027", "Other remarks", true);
+		records = new ArrayList<>();
+		for (int i = 0; i < RECORDS; i++) {
+			// every record is repeated twice, so all fields depend on the pair
+			int pair = i / 2;
+			records.add(new CreditFileBO("CODE" + pair % 10, "100" + pair, "01/15/2027", "Remarks " + pair,
+			        pair % 2 == 0));
+		}
+	}
+
+	@Benchmark
+	public boolean equalsSame() {
+		return actual.equals(expected);
+	}
+
+	@Benchmark
+	public boolean equalsDifferent() {
+		return actual.equals(different);
+	}
+
+	@Benchmark
+	public int hashCodeOf() {
+		return actual.hashCode();
+	}
+
+	@Benchmark
+	public List<CreditFileDiff> diff() {
+		return actual.diff(different);
+	}
+
+	@Benchmark
+	public String toStringOf() {
+		return actual.toString();
+	}
+
+	@Benchmark
+	public int deduplicate() {
+		Set<CreditFileBO> unique = new HashSet<>(records);
+		return unique.size();
+	}
+
+}
\ No newline at end of file
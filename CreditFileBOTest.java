@@ -0,0 +1,46 @@
+package com.epam.test.bo;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Class for testing of comparison of Credit Files
+ *
+ * @author Natalia Amelina
+ */
+public class CreditFileBOTest {
+
+	@Test(description = "Equal Credit Files have no differences")
+	public void checkDiffOfEqualTest() {
+		CreditFileBO actual = new CreditFileBO("TRADE", "1001", "01/15/2027", "Remarks", true);
+		CreditFileBO expected = new CreditFileBO("TRADE", "1001", "01/15/2027", "Remarks", true);
+
+		Assert.assertEquals(actual.diff(expected), Collections.<CreditFileDiff> emptyList(),
+		        "Equal Credit Files have no differences");
+	}
+
+	@Test(description = "Every different field is reported with expected and actual values")
+	public void checkDiffOfFieldsTest() {
+		CreditFileBO actual = new CreditFileBO("TRADE", "1001", "01/16/2027", "Other remarks", false);
+		CreditFileBO expected = new CreditFileBO("TRADE", "1001", "01/15/2027", "Remarks", true);
+
+		List<CreditFileDiff> diffs = actual.diff(expected);
+		Assert.assertEquals(diffs, Arrays.asList(
+		        new CreditFileDiff(CreditFileDiff.DATE, "01/15/2027", "01/16/2027"),
+		        new CreditFileDiff(CreditFileDiff.REMARKS, "Remarks", "Other remarks"),
+		        new CreditFileDiff(CreditFileDiff.PRINT, true, false)), "Only different fields are reported");
+		Assert.assertEquals(diffs.get(0).toString(), "dueDate expected 01/15/2027 got 01/16/2027",
+		        "Message of the difference names the field and both values");
+	}
+
+	@Test(description = "Missing value is reported as difference")
+	public void checkDiffOfMissingValueTest() {
+		CreditFileBO actual = new CreditFileBO("TRADE", null, "01/15/2027", "Remarks", true);
+		CreditFileBO expected = new CreditFileBO("TRADE", "1001", "01/15/2027", "Remarks", true);
+
+		Assert.assertEquals(actual.diff(expected), Arrays.asList(
+		        new CreditFileDiff(CreditFileDiff.ACCOUNT_NUMBER, "1001", null)), "Missing account is reported");
+	}
+
+}
\ No newline at end of file
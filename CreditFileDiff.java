@@ -0,0 +1,79 @@
+package com.epam.test.bo;
+
+import java.util.Objects;
+
+/**
+ * Class contains difference of one field of two Credit Files
+ *
+ * @author Natalia Amelina
+ */
+public final class CreditFileDiff {
+
+	public static final String CODE = "code";
+	public static final String ACCOUNT_NUMBER = "accountNumber";
+	public static final String DATE = "dueDate";
+	public static final String REMARKS = "remarks";
+	public static final String PRINT = "print";
+
+	private final String field;
+	private final Object expected;
+	private final Object actual;
+
+	/**
+	 * Class constructor
+	 *
+	 * @param field
+	 *            - name of the field
+	 * @param expected
+	 *            - expected value of the field
+	 * @param actual
+	 *            - actual value of the field
+	 */
+	public CreditFileDiff(String field, Object expected, Object actual) {
+		this.field = field;
+		this.expected = expected;
+		this.actual = actual;
+	}
+
+	public String getField() {
+		return field;
+	}
+
+	public Object getExpected() {
+		return expected;
+	}
+
+	public Object getActual() {
+		return actual;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof CreditFileDiff)) {
+			return false;
+		}
+		CreditFileDiff other = (CreditFileDiff) obj;
+		return field.equals(other.field) && Objects.equals(expected, other.expected)
+		        && Objects.equals(actual, other.actual);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(field, expected, actual);
+	}
+
+	/**
+	 * Method for carrying this object to a string representing
+	 *
+	 * @return a string representation of this object, e.g. "dueDate expected
+	 *         X got Y"
+	 */
+	@Override
+	public String toString() {
+		return String.format("%s expected %s got %s", field, expected, actual);
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,229 @@
+package com.epam.test.utils;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Class inserts Credit File Info records of the customer directly to data
+ * base. Records are written by batches in one transaction, so the tests can
+ * start from prepared data instead of creation of records through UI. The
+ * records are removed by the user who created them, the same way as
+ * CommandToDataBase.removeAdditionalForCustomer removes additional data of
+ * the customer
+ *
+ * @author Natalia Amelina
+ */
+public class CreditFileFixtures {
+
+	private static final StructuredLogger LOG = StructuredLogger.getLogger(CreditFileFixtures.class);
+
+	private static final String PROP_DB_URL = "db.url";
+	private static final String PROP_DB_USER = "db.user";
+	private static final String PROP_DB_PASSWORD = "db.password";
+
+	private static final String EMBEDDED_URL = "jdbc:h2:mem:%s;DB_CLOSE_DELAY=-1";
+	private static final String DEFAULT_DATE_FORMAT = "MM/dd/yyyy";
+	private static final int BATCH_SIZE = 200;
+
+	private static final String CREATE_TABLE = "CREATE TABLE IF NOT EXISTS CREDIT_FILE_INFO ("
+	        + "ID BIGINT AUTO_INCREMENT PRIMARY KEY, CUSTOMER_ACCOUNT_ID VARCHAR(32) NOT NULL, "
+	        + "CATEGORY_CODE VARCHAR(64) NOT NULL, ACCOUNT_NUMBER VARCHAR(64), DUE_DATE DATE NOT NULL, "
+	        + "REMARKS VARCHAR(1024) NOT NULL, PRINT_LETTER BOOLEAN NOT NULL, CREATED_BY VARCHAR(64) NOT NULL)";
+	private static final String INSERT = "INSERT INTO CREDIT_FILE_INFO (CUSTOMER_ACCOUNT_ID, CATEGORY_CODE, "
+	        + "ACCOUNT_NUMBER, DUE_DATE, REMARKS, PRINT_LETTER, CREATED_BY) VALUES (?, ?, ?, ?, ?, ?, ?)";
+	private static final String DELETE = "DELETE FROM CREDIT_FILE_INFO WHERE CUSTOMER_ACCOUNT_ID = ? AND CREATED_BY = ?";
+	private static final String COUNT = "SELECT COUNT(*) FROM CREDIT_FILE_INFO WHERE CUSTOMER_ACCOUNT_ID = ? AND CREATED_BY = ?";
+
+	private final String url;
+	private final String user;
+	private final String password;
+	private final String dateFormat;
+
+	/**
+	 * Class constructor
+	 *
+	 * @param url
+	 *            - JDBC URL of data base
+	 * @param user
+	 *            - name of data base user
+	 * @param password
+	 *            - password of data base user
+	 * @param dateFormat
+	 *            - format of Due Date values of CreditFileBO
+	 */
+	public CreditFileFixtures(String url, String user, String password, String dateFormat) {
+		this.url = url;
+		this.user = user;
+		this.password = password;
+		this.dateFormat = dateFormat;
+	}
+
+	/**
+	 * Method creates fixtures for data base which is defined in the
+	 * configuration
+	 *
+	 * @param configuration
+	 *            - configuration with data base connection
+	 * @return fixtures of the data base
+	 */
+	public static CreditFileFixtures of(TestConfiguration configuration) {
+		return new CreditFileFixtures(configuration.getString(PROP_DB_URL), configuration.getString(PROP_DB_USER),
+		        configuration.getString(PROP_DB_PASSWORD, ""), DEFAULT_DATE_FORMAT);
+	}
+
+	/**
+	 * Method creates fixtures for local in-memory data base. The data base has
+	 * the same Credit File Info table and can be used without network
+	 *
+	 * @param name
+	 *            - name of in-memory data base
+	 * @return fixtures of the data base
+	 */
+	public static CreditFileFixtures embedded(String name) {
+		CreditFileFixtures fixtures = new CreditFileFixtures(String.format(EMBEDDED_URL, name), "sa", "",
+		        DEFAULT_DATE_FORMAT);
+		try (Connection connection = fixtures.connect(); Statement statement = connection.createStatement()) {
+			statement.execute(CREATE_TABLE);
+		} catch (SQLException e) {
+			throw new IllegalStateException("Credit File Info table isn't created in " + fixtures.url, e);
+		}
+		return fixtures;
+	}
+
+	/**
+	 * Method for inserting of Credit File Info record
+	 *
+	 * @param createdBy
+	 *            - user who creates the record
+	 * @param customerAccountId
+	 *            - ID of customer account
+	 * @param creditFile
+	 *            - values of the record
+	 */
+	public void insert(String createdBy, String customerAccountId, CreditFileBO creditFile) {
+		insertAll(createdBy, customerAccountId, Collections.singletonList(creditFile));
+	}
+
+	/**
+	 * Method for inserting of Credit File Info records in one transaction. If
+	 * any record isn't inserted, no records are saved
+	 *
+	 * @param createdBy
+	 *            - user who creates the records
+	 * @param customerAccountId
+	 *            - ID of customer account
+	 * @param creditFiles
+	 *            - values of the records
+	 * @return count of inserted records
+	 */
+	public int insertAll(String createdBy, String customerAccountId, Collection<CreditFileBO> creditFiles) {
+		LOG.debug("Insert Credit File Info records", "customer", customerAccountId, "count", creditFiles.size());
+		SimpleDateFormat format = new SimpleDateFormat(dateFormat);
+		format.setLenient(false);
+		int result = 0;
+
+		try (Connection connection = connect()) {
+			connection.setAutoCommit(false);
+			try (PreparedStatement statement = connection.prepareStatement(INSERT)) {
+				int batched = 0;
+				for (CreditFileBO creditFile : creditFiles) {
+					statement.setString(1, customerAccountId);
+					statement.setString(2, creditFile.getCode());
+					statement.setString(3, creditFile.getAccountNumber());
+					statement.setDate(4, new java.sql.Date(format.parse(creditFile.getDate()).getTime()));
+					statement.setString(5, creditFile.getRemarks());
+					statement.setBoolean(6, creditFile.isPrint());
+					statement.setString(7, createdBy);
+					statement.addBatch();
+
+					if (++batched == BATCH_SIZE) {
+						result += sum(statement.executeBatch());
+						batched = 0;
+					}
+				}
+				if (batched > 0) {
+					result += sum(statement.executeBatch());
+				}
+				connection.commit();
+			} catch (SQLException | ParseException e) {
+				connection.rollback();
+				throw new IllegalStateException("Credit File Info records aren't inserted for customer "
+				        + customerAccountId, e);
+			}
+		} catch (SQLException e) {
+			throw new IllegalStateException("Connection to " + url + " is failed", e);
+		}
+
+		LOG.debug("Credit File Info records are inserted", "customer", customerAccountId, "count", result);
+		return result;
+	}
+
+	/**
+	 * Method for removing of Credit File Info records which were created by
+	 * the user for the customer
+	 *
+	 * @param createdBy
+	 *            - user who created the records
+	 * @param customerAccountId
+	 *            - ID of customer account
+	 * @return count of removed records
+	 */
+	public int removeAll(String createdBy, String customerAccountId) {
+		LOG.debug("Remove Credit File Info records", "customer", customerAccountId);
+		try (Connection connection = connect(); PreparedStatement statement = connection.prepareStatement(DELETE)) {
+			statement.setString(1, customerAccountId);
+			statement.setString(2, createdBy);
+			int result = statement.executeUpdate();
+			LOG.debug("Credit File Info records are removed", "customer", customerAccountId, "count", result);
+			return result;
+		} catch (SQLException e) {
+			throw new IllegalStateException("Credit File Info records aren't removed for customer "
+			        + customerAccountId, e);
+		}
+	}
+
+	/**
+	 * Method for get count of Credit File Info records which were created by
+	 * the user for the customer
+	 *
+	 * @param createdBy
+	 *            - user who created the records
+	 * @param customerAccountId
+	 *            - ID of customer account
+	 * @return count of records
+	 */
+	public int countAll(String createdBy, String customerAccountId) {
+		try (Connection connection = connect(); PreparedStatement statement = connection.prepareStatement(COUNT)) {
+			statement.setString(1, customerAccountId);
+			statement.setString(2, createdBy);
+			try (ResultSet result = statement.executeQuery()) {
+				return result.next() ? result.getInt(1) : 0;
+			}
+		} catch (SQLException e) {
+			throw new IllegalStateException("Credit File Info records aren't counted for customer "
+			        + customerAccountId, e);
+		}
+	}
+
+	private Connection connect() throws SQLException {
+		return DriverManager.getConnection(url, user, password);
+	}
+
+	private static int sum(int[] counts) {
+		int result = 0;
+		for (int count : counts) {
+			// some drivers don't report count of rows for batched statements
+			result += count == Statement.SUCCESS_NO_INFO ? 1 : count;
+		}
+		return result;
+	}
+
+}
\ No newline at end of file
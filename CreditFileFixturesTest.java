@@ -0,0 +1,65 @@
+package com.epam.test.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Class for testing of the Credit File Info fixtures. The tests work with
+ * embedded data base in memory, so they don't need the application
+ *
+ * @author Natalia Amelina
+ */
+public class CreditFileFixturesTest {
+
+	private static final String CREATED_BY = "fixtures";
+	private static final String CUSTOMER = "100200300";
+
+	private CreditFileFixtures fixtures;
+
+	@BeforeMethod
+	public void createDataBase() {
+		fixtures = CreditFileFixtures.embedded("fixtures_" + UUID.randomUUID().toString().replace("-", ""));
+	}
+
+	@Test(description = "Records are inserted by several batches")
+	public void checkInsertAllTest() {
+		List<CreditFileBO> creditFiles = new ArrayList<>();
+		for (int i = 0; i < 450; i++) {
+			creditFiles.add(new CreditFileBO("CODE" + i, "1000" + i, "01/15/2020", "Remarks " + i, i % 2 == 0));
+		}
+
+		Assert.assertEquals(fixtures.insertAll(CREATED_BY, CUSTOMER, creditFiles), creditFiles.size(),
+		        "All records are inserted");
+		Assert.assertEquals(fixtures.countAll(CREATED_BY, CUSTOMER), creditFiles.size(),
+		        "All records are stored");
+		Assert.assertEquals(fixtures.countAll("other", CUSTOMER), 0, "Records belong to the user who created them");
+	}
+
+	@Test(description = "Records aren't inserted partially when one of them is invalid")
+	public void checkRollbackTest() {
+		List<CreditFileBO> creditFiles = Arrays.asList(
+		        new CreditFileBO("CODE1", "10001", "01/15/2020", "Valid", true),
+		        new CreditFileBO("CODE2", "10002", "15/01/2020", "Invalid date", false));
+
+		try {
+			fixtures.insertAll(CREATED_BY, CUSTOMER, creditFiles);
+			Assert.fail("Record with invalid date is inserted");
+		} catch (IllegalStateException e) {
+			Assert.assertTrue(e.getMessage().contains(CUSTOMER), "Error describes the customer: " + e.getMessage());
+		}
+		Assert.assertEquals(fixtures.countAll(CREATED_BY, CUSTOMER), 0, "Transaction is rolled back");
+	}
+
+	@Test(description = "Records of the user are removed")
+	public void checkRemoveAllTest() {
+		fixtures.insert(CREATED_BY, CUSTOMER, new CreditFileBO("CODE1", "10001", "01/15/2020", "Own", true));
+		fixtures.insert("other", CUSTOMER, new CreditFileBO("CODE2", "10002", "01/16/2020", "Foreign", false));
+
+		Assert.assertEquals(fixtures.removeAll(CREATED_BY, CUSTOMER), 1, "Record of the user is removed");
+		Assert.assertEquals(fixtures.countAll(CREATED_BY, CUSTOMER), 0, "No records of the user are left");
+		Assert.assertEquals(fixtures.countAll("other", CUSTOMER), 1, "Records of other users are kept");
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,138 @@
+package com.epam.test.services.customer;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Class contains asynchronous counterparts of Credit File Info service
+ * methods. The methods return at once; the commands are run in background by
+ * {@link SessionExecutor} of the web driver one after another, so one thread
+ * can drive Credit File Info pages of several browser sessions at once
+ *
+ * @author Natalia Amelina
+ */
+public class CreditFileInfoAsyncService {
+
+	private static final StructuredLogger LOG = StructuredLogger.getLogger(CreditFileInfoAsyncService.class);
+
+	private final CreditFileInfoService service;
+	private final SessionExecutor session;
+
+	/**
+	 * Class constructor
+	 *
+	 * @param driver
+	 *            - web driver of the browser session
+	 */
+	public CreditFileInfoAsyncService(WebDriver driver) {
+		this(new CreditFileInfoService(driver), SessionExecutor.of(driver));
+	}
+
+	/**
+	 * Class constructor
+	 *
+	 * @param service
+	 *            - service which runs the commands
+	 * @param session
+	 *            - executor of the browser session of the service
+	 */
+	public CreditFileInfoAsyncService(CreditFileInfoService service, SessionExecutor session) {
+		this.service = service;
+		this.session = session;
+	}
+
+	public CreditFileInfoService getService() {
+		return service;
+	}
+
+	public SessionExecutor getSession() {
+		return session;
+	}
+
+	/**
+	 * Method receives values of Credit File Info page fields in background
+	 *
+	 * @return future of the values of opened Credit File Info page
+	 */
+	public CompletableFuture<CreditFileBO> getCreditInfoAsync() {
+		return session.submit(new Callable<CreditFileBO>() {
+			@Override
+			public CreditFileBO call() {
+				return service.getCreditInfo();
+			}
+		});
+	}
+
+	/**
+	 * Method fills Credit File Info page fields in background and reads their
+	 * values back
+	 *
+	 * @param creditFileBO
+	 *            - values of the fields
+	 * @return future of the values which are shown by the page after filling
+	 */
+	public CompletableFuture<CreditFileBO> setCreditInfoAsync(final CreditFileBO creditFileBO) {
+		return session.submit(new Callable<CreditFileBO>() {
+			@Override
+			public CreditFileBO call() {
+				CreditFileInfoFillReport report = service.setCreditInfo(creditFileBO);
+				if (!report.isSuccess()) {
+					LOG.debug("Credit File Info fields aren't filled", "report", report);
+				}
+				return service.getCreditInfo();
+			}
+		});
+	}
+
+	/**
+	 * Method compares values of Credit File Info page fields with expected
+	 * ones in background
+	 *
+	 * @param expected
+	 *            - expected values of the fields
+	 * @return future of the list of fields which values differ
+	 */
+	public CompletableFuture<List<CreditFileDiff>> compareCreditInfoAsync(final CreditFileBO expected) {
+		return session.submit(new Callable<List<CreditFileDiff>>() {
+			@Override
+			public List<CreditFileDiff> call() {
+				return service.compareCreditInfo(expected);
+			}
+		});
+	}
+
+	/**
+	 * Method clicks Save button in background and waits until the dialog is
+	 * closed
+	 *
+	 * @return future of true if the dialog is closed after saving; false
+	 *         otherwise
+	 */
+	public CompletableFuture<Boolean> saveAsync() {
+		return session.submit(new Callable<Boolean>() {
+			@Override
+			public Boolean call() {
+				service.save();
+				return service.waitForClosed();
+			}
+		});
+	}
+
+	/**
+	 * Method clicks Cancel button in background and waits until the dialog is
+	 * closed
+	 *
+	 * @return future of true if the dialog is closed; false otherwise
+	 */
+	public CompletableFuture<Boolean> cancelAsync() {
+		return session.submit(new Callable<Boolean>() {
+			@Override
+			public Boolean call() {
+				service.cancel();
+				return service.waitForClosed();
+			}
+		});
+	}
+
+}
\ No newline at end of file
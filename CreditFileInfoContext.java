@@ -0,0 +1,61 @@
+package com.epam.test.tests;
+
+/**
+ * Class contains services of Credit File Info tests which are bound to one web
+ * driver. Every driver of the pool has its own context, so parallel tests
+ * don't share service instances
+ *
+ * @author Natalia Amelina
+ */
+public class CreditFileInfoContext {
+
+	private final WebDriver driver;
+	private final MainService mainService;
+	private final ViewCustomerService viewCustomerService;
+	private final MaintenanceService maintenanceService;
+	private final CreditFileInfoService creditInfoFileService;
+	private final MaintenanceNavigator maintenanceNavigator;
+
+	/**
+	 * Class constructor. It initializes all services for the driver
+	 *
+	 * @param driver
+	 *            - web driver which is used by the services
+	 * @param properties
+	 *            - properties with data for tests
+	 */
+	public CreditFileInfoContext(WebDriver driver, LoadPropertiesUtil properties) {
+		this.driver = driver;
+		mainService = new MainService(driver, properties);
+		viewCustomerService = new ViewCustomerService(driver);
+		maintenanceService = new MaintenanceService(driver);
+		creditInfoFileService = new CreditFileInfoService(driver);
+		maintenanceNavigator = new MaintenanceNavigator(driver, mainService, viewCustomerService, maintenanceService,
+		        creditInfoFileService);
+	}
+
+	public WebDriver getDriver() {
+		return driver;
+	}
+
+	public MainService getMainService() {
+		return mainService;
+	}
+
+	public ViewCustomerService getViewCustomerService() {
+		return viewCustomerService;
+	}
+
+	public MaintenanceService getMaintenanceService() {
+		return maintenanceService;
+	}
+
+	public CreditFileInfoService getCreditInfoFileService() {
+		return creditInfoFileService;
+	}
+
+	public MaintenanceNavigator getMaintenanceNavigator() {
+		return maintenanceNavigator;
+	}
+
+}
\ No newline at end of file
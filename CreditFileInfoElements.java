@@ -0,0 +1,31 @@
+package com.epam.test.services.customer;
+
+/**
+ * Interface provides root elements of Credit File Info page fields and of
+ * their error components
+ *
+ * @author Natalia Amelina
+ */
+interface CreditFileInfoElements {
+
+	/**
+	 * Method for get root web element of the field
+	 *
+	 * @param field
+	 *            - field of Credit File Info page
+	 * @return root web element of the field
+	 */
+	WebElement get(CreditFileInfoField field);
+
+	/**
+	 * Method for get root web element of the component which shows the
+	 * validation error of the field
+	 *
+	 * @param field
+	 *            - field of Credit File Info page
+	 * @return root web element of the error component; null if the field
+	 *         isn't validated
+	 */
+	WebElement getError(CreditFileInfoField field);
+
+}
\ No newline at end of file
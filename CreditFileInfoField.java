@@ -0,0 +1,130 @@
+package com.epam.test.services.customer;
+
+/**
+ * Enumeration of Credit File Info page fields and buttons. It binds every field
+ * to its component of Credit File Info page
+ *
+ * @author Natalia Amelina
+ */
+public enum CreditFileInfoField {
+
+	CATEGORY_CODE("Category Code") {
+		@Override
+		Object getComponent(CreditFileInfoPage page) {
+			return page.categoryCodeDropDown;
+		}
+
+		@Override
+		Object getErrorComponent(CreditFileInfoPage page) {
+			return page.categoryErrorDropDown;
+		}
+	},
+	ACCOUNT_NUMBER("Account Number") {
+		@Override
+		Object getComponent(CreditFileInfoPage page) {
+			return page.accountNumberDropDown;
+		}
+	},
+	DUE_DATE("Due Date") {
+		@Override
+		Object getComponent(CreditFileInfoPage page) {
+			return page.dueDateCalendar;
+		}
+
+		@Override
+		Object getErrorComponent(CreditFileInfoPage page) {
+			return page.dueDateErrorCalendar;
+		}
+	},
+	REMARKS("Remarks") {
+		@Override
+		Object getComponent(CreditFileInfoPage page) {
+			return page.remarksInput;
+		}
+
+		@Override
+		Object getErrorComponent(CreditFileInfoPage page) {
+			return page.remarksErrorInput;
+		}
+	},
+	PRINT_LETTER("Print Letter") {
+		@Override
+		Object getComponent(CreditFileInfoPage page) {
+			return page.printLetterSwitcher;
+		}
+	},
+	SAVE("Save") {
+		@Override
+		Object getComponent(CreditFileInfoPage page) {
+			return page.saveButton;
+		}
+	},
+	CANCEL("Cancel") {
+		@Override
+		Object getComponent(CreditFileInfoPage page) {
+			return page.cancelButton;
+		}
+	};
+
+	private final String title;
+
+	private CreditFileInfoField(String title) {
+		this.title = title;
+	}
+
+	/**
+	 * Method for get the field name as it is shown on Credit File Info page
+	 *
+	 * @return name of the field
+	 */
+	public String getTitle() {
+		return title;
+	}
+
+	/**
+	 * Method for get component of Credit File Info page which is bound to the
+	 * field
+	 *
+	 * @param page
+	 *            - Credit File Info page
+	 * @return component of the field
+	 */
+	abstract Object getComponent(CreditFileInfoPage page);
+
+	/**
+	 * Method for get component of Credit File Info page which shows the
+	 * validation error of the field
+	 *
+	 * @param page
+	 *            - Credit File Info page
+	 * @return error component of the field; null if the field isn't validated
+	 */
+	Object getErrorComponent(CreditFileInfoPage page) {
+		return null;
+	}
+
+	/**
+	 * Method for get root web element of the field component
+	 *
+	 * @param page
+	 *            - Credit File Info page
+	 * @return root web element of the field
+	 */
+	WebElement getElement(CreditFileInfoPage page) {
+		return ((WrapsElement) getComponent(page)).getWrappedElement();
+	}
+
+	/**
+	 * Method for get root web element of the error component of the field
+	 *
+	 * @param page
+	 *            - Credit File Info page
+	 * @return root web element of the error component; null if the field
+	 *         isn't validated
+	 */
+	WebElement getErrorElement(CreditFileInfoPage page) {
+		Object component = getErrorComponent(page);
+		return component == null ? null : ((WrapsElement) component).getWrappedElement();
+	}
+
+}
\ No newline at end of file
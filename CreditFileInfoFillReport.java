@@ -0,0 +1,104 @@
+package com.epam.test.services.customer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Class contains result of filling of Credit File Info page fields: expected
+ * and actual value of every filled field
+ *
+ * @author Natalia Amelina
+ */
+public class CreditFileInfoFillReport {
+
+	private final Map<CreditFileInfoField, Object> expected = new EnumMap<>(CreditFileInfoField.class);
+	private final Map<CreditFileInfoField, Object> actual = new EnumMap<>(CreditFileInfoField.class);
+	private final Map<CreditFileInfoField, Boolean> filled = new EnumMap<>(CreditFileInfoField.class);
+
+	/**
+	 * Method for adding result of filling of the field
+	 *
+	 * @param field
+	 *            - filled field
+	 * @param expectedValue
+	 *            - value which was set to the field
+	 * @param actualValue
+	 *            - value of the field after filling
+	 * @param success
+	 *            - true if the field is filled with expected value
+	 */
+	void put(CreditFileInfoField field, Object expectedValue, Object actualValue, boolean success) {
+		expected.put(field, expectedValue);
+		actual.put(field, actualValue);
+		filled.put(field, success);
+	}
+
+	/**
+	 * Method for checking of filling of the field
+	 *
+	 * @param field
+	 *            - field of Credit File Info page
+	 * @return true if the field is filled with expected value; false otherwise
+	 */
+	public boolean isFilled(CreditFileInfoField field) {
+		return Boolean.TRUE.equals(filled.get(field));
+	}
+
+	/**
+	 * Method for checking of filling of all fields
+	 *
+	 * @return true if all fields are filled with expected values; false
+	 *         otherwise
+	 */
+	public boolean isSuccess() {
+		return getFailed().isEmpty();
+	}
+
+	/**
+	 * Method for get fields which aren't filled with expected values
+	 *
+	 * @return list of failed fields
+	 */
+	public List<CreditFileInfoField> getFailed() {
+		List<CreditFileInfoField> result = new ArrayList<>();
+		for (Map.Entry<CreditFileInfoField, Boolean> entry : filled.entrySet()) {
+			if (!entry.getValue()) {
+				result.add(entry.getKey());
+			}
+		}
+		return Collections.unmodifiableList(result);
+	}
+
+	/**
+	 * Method for get value of the field after filling
+	 *
+	 * @param field
+	 *            - field of Credit File Info page
+	 * @return actual value of the field; null if the field wasn't filled
+	 */
+	public Object getActual(CreditFileInfoField field) {
+		return actual.get(field);
+	}
+
+	/**
+	 * Method for carrying this object to a string representing
+	 *
+	 * @return a string representation of this object
+	 */
+	@Override
+	public String toString() {
+		if (isSuccess()) {
+			return "All fields are filled " + expected;
+		}
+		StringBuilder result = new StringBuilder("Fields aren't filled:");
+		for (CreditFileInfoField field : getFailed()) {
+			result.append(String.format(" %s expected \"%s\" got \"%s\";", field.getTitle(), expected.get(field),
+			        actual.get(field)));
+		}
+		return result.toString();
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,119 @@
+package com.epam.test.services.customer;
+
+import java.io.IOException;
+
+/**
+ * Class opens static replica of Credit File Info dialog in in-memory browser
+ * with JavaScript engine. The scripts of CreditFileInfoService are executed
+ * against the DOM of the replica and the page object of the service is
+ * created by ScreenFactory as for the real browser, so the service can be
+ * checked without browser and network
+ *
+ * @author Natalia Amelina
+ */
+public class CreditFileInfoFixture implements AutoCloseable {
+
+	private final ScriptCountingDriver driver = new ScriptCountingDriver();
+
+	/**
+	 * Class constructor. It opens the replica with empty dialog
+	 *
+	 * @throws IOException
+	 *             if the replica isn't found
+	 */
+	public CreditFileInfoFixture() throws IOException {
+		driver.get(FixtureServer.getFileUrl());
+	}
+
+	/**
+	 * Method creates Credit File Info service which works with the replica
+	 *
+	 * @return service of the replica
+	 */
+	public CreditFileInfoService createService() {
+		return new CreditFileInfoService(driver, ScreenFactory.inst().getCreditFileInfoPage(driver),
+		        FixtureServer.elementsOf(driver));
+	}
+
+	public WebDriver getDriver() {
+		return driver;
+	}
+
+	/**
+	 * Method for get count of executed scripts, i.e. count of browser calls
+	 * which the service has made by scripts
+	 *
+	 * @return count of scripts
+	 */
+	public int getScriptCount() {
+		return driver.scriptCount;
+	}
+
+	/**
+	 * Method for get root element of the field
+	 *
+	 * @param field
+	 *            - field of the dialog
+	 * @return root element of the field
+	 */
+	public WebElement getElement(CreditFileInfoField field) {
+		return FixtureServer.elementsOf(driver).get(field);
+	}
+
+	/**
+	 * Method for get value of the form control of the field as the browser
+	 * keeps it
+	 *
+	 * @param field
+	 *            - field of the dialog
+	 * @return value of the field
+	 */
+	public String getValue(CreditFileInfoField field) {
+		return getElement(field).findElement(By.cssSelector("input, select, textarea")).getAttribute("value");
+	}
+
+	/**
+	 * Method hides the field as the page does it for unavailable fields
+	 *
+	 * @param field
+	 *            - field of the dialog
+	 */
+	public void hide(CreditFileInfoField field) {
+		driver.executeScriptUncounted("arguments[0].style.display = 'none';", getElement(field));
+	}
+
+	@Override
+	public void close() {
+		driver.quit();
+	}
+
+	/**
+	 * Class is in-memory browser which counts executed scripts
+	 */
+	private static class ScriptCountingDriver extends HtmlUnitDriver {
+
+		private int scriptCount;
+
+		ScriptCountingDriver() {
+			super(BrowserVersion.CHROME, true);
+		}
+
+		@Override
+		public Object executeScript(String script, Object... args) {
+			scriptCount++;
+			return super.executeScript(script, args);
+		}
+
+		@Override
+		public Object executeAsyncScript(String script, Object... args) {
+			scriptCount++;
+			return super.executeAsyncScript(script, args);
+		}
+
+		Object executeScriptUncounted(String script, Object... args) {
+			return super.executeScript(script, args);
+		}
+
+	}
+
+}
\ No newline at end of file
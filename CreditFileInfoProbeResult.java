@@ -0,0 +1,186 @@
+package com.epam.test.services.customer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Class contains visibility and validation error state of Credit File Info
+ * page components which were read by one browser call
+ *
+ * @author Natalia Amelina
+ */
+public class CreditFileInfoProbeResult {
+
+	private final Map<CreditFileInfoField, FieldState> states = new EnumMap<>(CreditFileInfoField.class);
+	private final Map<CreditFileInfoField, String> expectedErrors = new EnumMap<>(CreditFileInfoField.class);
+
+	/**
+	 * Class constructor
+	 *
+	 * @param expectedErrors
+	 *            - error messages which are expected for the fields; may be
+	 *            empty if only visibility is checked
+	 */
+	CreditFileInfoProbeResult(Map<CreditFileInfoField, String> expectedErrors) {
+		this.expectedErrors.putAll(expectedErrors);
+	}
+
+	/**
+	 * Method for adding state of the field
+	 *
+	 * @param field
+	 *            - field of Credit File Info page
+	 * @param state
+	 *            - current state of the field
+	 */
+	void put(CreditFileInfoField field, FieldState state) {
+		states.put(field, state);
+	}
+
+	/**
+	 * Method for get state of the field
+	 *
+	 * @param field
+	 *            - field of Credit File Info page
+	 * @return state of the field; null if the field wasn't probed
+	 */
+	public FieldState getState(CreditFileInfoField field) {
+		return states.get(field);
+	}
+
+	/**
+	 * Method for checking display of all probed fields
+	 *
+	 * @return true if all probed fields are displayed; false otherwise
+	 */
+	public boolean isDisplayed() {
+		return getNotDisplayed().isEmpty();
+	}
+
+	/**
+	 * Method for checking the validation errors of probed fields
+	 *
+	 * @return true if red border and expected error text are displayed for
+	 *         every field with expected error; false otherwise
+	 */
+	public boolean isErrorsDisplayed() {
+		return getWithoutError().isEmpty();
+	}
+
+	/**
+	 * Method for get fields which aren't displayed
+	 *
+	 * @return list of fields which aren't displayed
+	 */
+	public List<CreditFileInfoField> getNotDisplayed() {
+		List<CreditFileInfoField> result = new ArrayList<>();
+		for (Map.Entry<CreditFileInfoField, FieldState> entry : states.entrySet()) {
+			if (!entry.getValue().isDisplayed()) {
+				result.add(entry.getKey());
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Method for get fields which have no expected validation error
+	 *
+	 * @return list of fields without red border or with wrong error text
+	 */
+	public List<CreditFileInfoField> getWithoutError() {
+		List<CreditFileInfoField> result = new ArrayList<>();
+		for (Map.Entry<CreditFileInfoField, String> entry : expectedErrors.entrySet()) {
+			FieldState state = states.get(entry.getKey());
+			if (state == null || !state.isErrorDisplayed(entry.getValue())) {
+				result.add(entry.getKey());
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Method for get description of every failed check
+	 *
+	 * @return list of failures; empty list if all checks are passed
+	 */
+	public List<String> getFailures() {
+		List<String> result = new ArrayList<>();
+		for (CreditFileInfoField field : getNotDisplayed()) {
+			result.add(field.getTitle() + " isn't displayed");
+		}
+		for (CreditFileInfoField field : getWithoutError()) {
+			FieldState state = states.get(field);
+			result.add(String.format("%s: expected error \"%s\", red border = %b, error text = \"%s\"",
+			        field.getTitle(), expectedErrors.get(field), state != null && state.isErrorBoxDisplayed(),
+			        state == null ? null : state.getErrorText()));
+		}
+		return Collections.unmodifiableList(result);
+	}
+
+	/**
+	 * Method for carrying this object to a string representing
+	 *
+	 * @return a string representation of this object
+	 */
+	@Override
+	public String toString() {
+		List<String> failures = getFailures();
+		return failures.isEmpty() ? "All checks are passed" : failures.toString();
+	}
+
+	/**
+	 * Class contains state of one field of Credit File Info page
+	 */
+	public static class FieldState {
+
+		private final boolean displayed;
+		private final boolean errorBoxDisplayed;
+		private final String errorText;
+
+		/**
+		 * Class constructor
+		 *
+		 * @param displayed
+		 *            - is the field displayed
+		 * @param errorBoxDisplayed
+		 *            - is red border displayed for the field
+		 * @param errorText
+		 *            - text of the validation error; null if there is no
+		 *            error text
+		 */
+		FieldState(boolean displayed, boolean errorBoxDisplayed, String errorText) {
+			this.displayed = displayed;
+			this.errorBoxDisplayed = errorBoxDisplayed;
+			this.errorText = errorText;
+		}
+
+		public boolean isDisplayed() {
+			return displayed;
+		}
+
+		public boolean isErrorBoxDisplayed() {
+			return errorBoxDisplayed;
+		}
+
+		public String getErrorText() {
+			return errorText;
+		}
+
+		/**
+		 * Method for checking the validation error of the field
+		 *
+		 * @param expectedError
+		 *            - expected error text
+		 * @return true if red border and expected error text are displayed;
+		 *         false otherwise
+		 */
+		public boolean isErrorDisplayed(String expectedError) {
+			return errorBoxDisplayed && errorText != null && errorText.equals(expectedError);
+		}
+
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,326 @@
+package com.epam.test.services.customer;
+
+/**
+ * Class contains JavaScript snippets which are executed on Credit File Info
+ * page. Each snippet does the work of several WebDriver commands in one
+ * browser call
+ *
+ * @author Natalia Amelina
+ */
+final class CreditFileInfoScripts {
+
+	/**
+	 * Common functions for reading of field components. The field component is
+	 * passed as root element: the value is taken from the nested form control
+	 * if it is present and from the visible text otherwise
+	 */
+	private static final String FUNCTIONS = ""
+	        + "function control(root) {"
+	        + "  if (root.matches('input, select, textarea')) { return root; }"
+	        + "  return root.querySelector('input:not([type=hidden]), select, textarea');"
+	        + "}"
+	        + "function valueOf(root) {"
+	        + "  var field = control(root);"
+	        + "  if (field && field.tagName === 'SELECT') {"
+	        + "    var option = field.options[field.selectedIndex];"
+	        + "    return option ? option.text.trim() : '';"
+	        + "  }"
+	        + "  if (field && field.type !== 'checkbox') { return field.value; }"
+	        + "  return (root.innerText || root.textContent || '').trim();"
+	        + "}"
+	        + "function switchedOf(root) {"
+	        + "  var box = root.matches('input[type=checkbox]') ? root : root.querySelector('input[type=checkbox]');"
+	        + "  if (box) { return box.checked; }"
+	        + "  var aria = root.getAttribute('aria-checked') || root.getAttribute('aria-pressed');"
+	        + "  if (aria) { return aria === 'true'; }"
+	        + "  return /(^|\\s)(active|checked|on)(\\s|$)/.test(root.className);"
+	        + "}"
+	        + "function displayed(element) {"
+	        + "  if (!element || !element.isConnected) { return false; }"
+	        + "  var style = window.getComputedStyle(element);"
+	        + "  return style.visibility !== 'hidden' && style.display !== 'none'"
+	        + "    && !!(element.offsetWidth || element.offsetHeight || element.getClientRects().length);"
+	        + "}"
+	        + "function isRed(color) {"
+	        + "  var rgb = /rgba?\\((\\d+),\\s*(\\d+),\\s*(\\d+)/.exec(color);"
+	        + "  var hex = /^#([0-9a-f]{2})([0-9a-f]{2})([0-9a-f]{2})$/i.exec(color);"
+	        + "  var c = rgb ? [+rgb[1], +rgb[2], +rgb[3]]"
+	        + "    : hex ? [parseInt(hex[1], 16), parseInt(hex[2], 16), parseInt(hex[3], 16)] : null;"
+	        + "  return !!c && c[0] > 120 && c[0] > 1.5 * c[1] && c[0] > 1.5 * c[2];"
+	        + "}"
+	        + "function redBorder(element) {"
+	        + "  if (!element) { return false; }"
+	        + "  var style = window.getComputedStyle(element);"
+	        + "  return ['Top', 'Right', 'Bottom', 'Left'].some(function(side) {"
+	        + "    return style['border' + side + 'Style'] !== 'none' && parseFloat(style['border' + side + 'Width']) > 0"
+	        + "      && isRed(style['border' + side + 'Color']);"
+	        + "  });"
+	        + "}"
+	        + "var FEEDBACK = '.help-block, .invalid-feedback, .error-message, [role=alert]';"
+	        + "function errorTextOf(box) {"
+	        + "  var feedbacks = Array.prototype.slice.call(box.querySelectorAll(FEEDBACK));"
+	        + "  if (box.matches(FEEDBACK)) { feedbacks.unshift(box); }"
+	        + "  for (var i = 0; i < feedbacks.length; i++) {"
+	        + "    if (displayed(feedbacks[i])) { return (feedbacks[i].innerText || '').trim(); }"
+	        + "  }"
+	        + "  return null;"
+	        + "}";
+
+	/**
+	 * Reads values of Category Code, Account Number, Due Date, Remarks and
+	 * Print Letter fields. Arguments are root elements of these fields in the
+	 * same order
+	 */
+	static final String SNAPSHOT = FUNCTIONS
+	        + "return {"
+	        + "  code: valueOf(arguments[0]),"
+	        + "  accountNumber: valueOf(arguments[1]),"
+	        + "  date: valueOf(arguments[2]),"
+	        + "  remarks: valueOf(arguments[3]),"
+	        + "  print: switchedOf(arguments[4])"
+	        + "};";
+
+	/**
+	 * Reads visibility and validation error state of field components. The
+	 * first argument is the list of root elements of the fields, the second
+	 * one is the list of root elements of their error components in the same
+	 * order (null for the field without error component). The error box is
+	 * displayed if the error component or its form control has red border;
+	 * the error text is the text of the displayed feedback of the error
+	 * component. The result contains the state of every field in the same
+	 * order
+	 */
+	static final String PROBE = FUNCTIONS
+	        + "var boxes = arguments[1];"
+	        + "return arguments[0].map(function(root, index) {"
+	        + "  var box = boxes[index];"
+	        + "  return {"
+	        + "    displayed: displayed(root),"
+	        + "    errorBox: !!box && displayed(box) && (redBorder(box) || redBorder(control(box))),"
+	        + "    errorText: box ? errorTextOf(box) : null"
+	        + "  };"
+	        + "});";
+
+	/**
+	 * Common functions for changing of field components. Values are set with
+	 * the same input, change and click events which are fired by the user
+	 */
+	private static final String INPUT_FUNCTIONS = FUNCTIONS
+	        + "function fire(field, type) { field.dispatchEvent(new Event(type, { bubbles: true })); }"
+	        + "function writeText(field, value) {"
+	        + "  var proto = field.tagName === 'TEXTAREA' ? HTMLTextAreaElement.prototype : HTMLInputElement.prototype;"
+	        + "  Object.getOwnPropertyDescriptor(proto, 'value').set.call(field, value);"
+	        + "}"
+	        + "function typeText(root, value) {"
+	        + "  var field = control(root);"
+	        + "  if (!field) { return; }"
+	        + "  field.focus();"
+	        + "  writeText(field, value);"
+	        + "  fire(field, 'input');"
+	        + "  fire(field, 'change');"
+	        + "  field.blur();"
+	        + "}"
+	        + "function waitFor(probe, then) {"
+	        + "  var started = Date.now();"
+	        + "  (function attempt() {"
+	        + "    var found = probe();"
+	        + "    if (found || Date.now() - started > 2000) { then(found); } else { setTimeout(attempt, 25); }"
+	        + "  })();"
+	        + "}"
+	        // the list of custom drop-down is referenced by aria-controls or aria-owns
+	        // of the component, otherwise it is looked up inside the component
+	        + "function listsOf(root) {"
+	        + "  var owners = [root].concat(Array.prototype.slice.call(root.querySelectorAll('[aria-controls], [aria-owns]')));"
+	        + "  var result = [];"
+	        + "  owners.forEach(function(owner) {"
+	        + "    var ids = (owner.getAttribute('aria-controls') || '') + ' ' + (owner.getAttribute('aria-owns') || '');"
+	        + "    ids.split(/\\s+/).forEach(function(id) {"
+	        + "      var list = id ? document.getElementById(id) : null;"
+	        + "      if (list && result.indexOf(list) < 0) { result.push(list); }"
+	        + "    });"
+	        + "  });"
+	        + "  return result.length > 0 ? result : [root];"
+	        + "}"
+	        + "function visibleOptions(root) {"
+	        + "  var result = [];"
+	        + "  listsOf(root).forEach(function(list) {"
+	        + "    var options = list.querySelectorAll('[role=option], .dropdown-menu li, .select2-results__option');"
+	        + "    result = result.concat(Array.prototype.filter.call(options, displayed));"
+	        + "  });"
+	        + "  return result;"
+	        + "}"
+	        + "function findOption(root, value) {"
+	        + "  var options = visibleOptions(root);"
+	        + "  for (var i = 0; i < options.length; i++) {"
+	        + "    if ((options[i].innerText || '').trim() === value) { return options[i]; }"
+	        + "  }"
+	        + "  return null;"
+	        + "}"
+	        + "function choose(root, value, done) {"
+	        + "  var field = control(root);"
+	        + "  if (field && field.tagName === 'SELECT') {"
+	        + "    for (var i = 0; i < field.options.length; i++) {"
+	        + "      if (field.options[i].text.trim() === value) {"
+	        + "        field.selectedIndex = i;"
+	        + "        fire(field, 'input');"
+	        + "        fire(field, 'change');"
+	        + "        break;"
+	        + "      }"
+	        + "    }"
+	        + "    done();"
+	        + "    return;"
+	        + "  }"
+	        + "  (field || root).click();"
+	        + "  waitFor(function() { return findOption(root, value); }, function(option) {"
+	        + "    if (option) { option.click(); }"
+	        + "    done();"
+	        + "  });"
+	        + "}"
+	        + "function toggle(root, value) {"
+	        + "  if (switchedOf(root) === value) { return; }"
+	        + "  var box = root.matches('input[type=checkbox]') ? root : root.querySelector('input[type=checkbox]');"
+	        + "  (box || root).click();"
+	        + "}";
+
+	/**
+	 * Fills field components one after another and reads their values back.
+	 * The first argument is the list of steps: root element, kind of the
+	 * component (choice, text or switch) and value. The result contains the
+	 * actual value of every field in the same order
+	 */
+	static final String FILL = INPUT_FUNCTIONS
+	        + "var steps = arguments[0];"
+	        + "var callback = arguments[arguments.length - 1];"
+	        + "function read(step) { return step.kind === 'switch' ? switchedOf(step.root) : valueOf(step.root); }"
+	        + "(function next(index) {"
+	        + "  if (index === steps.length) {"
+	        + "    callback(steps.map(read));"
+	        + "    return;"
+	        + "  }"
+	        + "  var step = steps[index];"
+	        + "  try {"
+	        + "    if (step.kind === 'choice') {"
+	        + "      choose(step.root, step.value, function() { next(index + 1); });"
+	        + "      return;"
+	        + "    }"
+	        + "    if (step.kind === 'switch') { toggle(step.root, step.value); } else { typeText(step.root, step.value); }"
+	        + "  } catch (e) {"
+	        + "    console.warn('Credit File Info field is not filled', e);"
+	        + "  }"
+	        + "  next(index + 1);"
+	        + "})(0);";
+
+	/**
+	 * Types every value to the field component key by key and reads the value
+	 * which is accepted by the field. A key is typed only if the page doesn't
+	 * cancel its keydown, keypress or beforeinput event and the field can take
+	 * it, i.e. isn't read-only and isn't filled to maxlength. The first argument is
+	 * root element, the second one is the list of values; the result contains
+	 * the accepted value for every typed value in the same order
+	 */
+	static final String VALIDATE = INPUT_FUNCTIONS
+	        + "var root = arguments[0];"
+	        + "var values = arguments[1];"
+	        + "var callback = arguments[arguments.length - 1];"
+	        + "var field = control(root);"
+	        + "var accepted = [];"
+	        + "function key(type, ch) {"
+	        + "  var event = type === 'beforeinput'"
+	        + "    ? new InputEvent(type, { data: ch, inputType: 'insertText', bubbles: true, cancelable: true })"
+	        + "    : new KeyboardEvent(type, { key: ch, bubbles: true, cancelable: true });"
+	        + "  return field.dispatchEvent(event);"
+	        + "}"
+	        + "function clear() {"
+	        + "  writeText(field, '');"
+	        + "  fire(field, 'input');"
+	        + "}"
+	        // the browser doesn't insert text over maxlength or into read-only field
+	        + "function full() {"
+	        + "  return field.readOnly || field.disabled || field.maxLength >= 0 && field.value.length >= field.maxLength;"
+	        + "}"
+	        + "function type(value) {"
+	        + "  field.focus();"
+	        + "  clear();"
+	        + "  for (var i = 0; i < value.length; i++) {"
+	        + "    var ch = value.charAt(i);"
+	        + "    if (key('keydown', ch) && key('keypress', ch) && !full() && key('beforeinput', ch)) {"
+	        + "      writeText(field, field.value + ch);"
+	        + "      fire(field, 'input');"
+	        + "    }"
+	        + "    key('keyup', ch);"
+	        + "  }"
+	        + "  fire(field, 'change');"
+	        + "  field.blur();"
+	        + "}"
+	        + "if (!field) { callback(null); return; }"
+	        + "(function next(index) {"
+	        + "  if (index === values.length) {"
+	        + "    clear();"
+	        + "    callback(accepted);"
+	        + "    return;"
+	        + "  }"
+	        + "  type(values[index]);"
+	        // the page may format or reject the value asynchronously
+	        + "  setTimeout(function() {"
+	        + "    accepted.push(valueOf(root));"
+	        + "    next(index + 1);"
+	        + "  }, 0);"
+	        + "})(0);";
+
+	/**
+	 * Reads all options of the drop-down. The first argument is root element
+	 * of the drop-down; the result contains text, value and enabled state of
+	 * every option. The list of custom drop-down is opened for the reading and
+	 * closed again; only options of the list which is referenced by the
+	 * drop-down are read, other lists of the page are ignored
+	 */
+	static final String OPTIONS = INPUT_FUNCTIONS
+	        + "var root = arguments[0];"
+	        + "var callback = arguments[arguments.length - 1];"
+	        + "var field = control(root);"
+	        + "function describe(option, value, disabled) {"
+	        + "  return { text: (option.innerText || option.textContent || '').trim(), value: value, enabled: !disabled };"
+	        + "}"
+	        + "if (field && field.tagName === 'SELECT') {"
+	        + "  callback(Array.prototype.map.call(field.options, function(option) {"
+	        + "    return { text: option.text.trim(), value: option.value, enabled: !option.disabled };"
+	        + "  }));"
+	        + "  return;"
+	        + "}"
+	        + "(field || root).click();"
+	        + "waitFor(function() { return visibleOptions(root).length > 0; }, function() {"
+	        + "  var result = visibleOptions(root).map(function(option) {"
+	        + "    var disabled = option.getAttribute('aria-disabled') === 'true'"
+	        + "      || /(^|\\s)disabled(\\s|$)/.test(option.className);"
+	        + "    return describe(option, option.getAttribute('data-value') || option.getAttribute('value'), disabled);"
+	        + "  });"
+	        + "  (field || root).dispatchEvent(new KeyboardEvent('keydown', { key: 'Escape', bubbles: true }));"
+	        + "  if (visibleOptions(root).length > 0) { (field || root).click(); }"
+	        + "  callback(result);"
+	        + "});";
+
+	/**
+	 * Selects the option of the drop-down by its text. The first argument is
+	 * root element of the drop-down, the second one is the text of the
+	 * option; the result is the value which is shown by the drop-down after
+	 * the selection
+	 */
+	static final String CHOOSE = INPUT_FUNCTIONS
+	        + "var root = arguments[0];"
+	        + "var callback = arguments[arguments.length - 1];"
+	        + "choose(root, arguments[1], function() { callback(valueOf(root)); });";
+
+	/**
+	 * Reads markup of Credit File Info dialog. The first argument is root
+	 * element of Save button; the result is the markup of the closest dialog
+	 * container or of the whole page if there is no such container
+	 */
+	static final String DIALOG_HTML = ""
+	        + "var save = arguments[0];"
+	        + "var dialog = save && save.closest('[role=dialog], .modal, form');"
+	        + "return (dialog || document.documentElement).outerHTML;";
+
+	private CreditFileInfoScripts() {
+	}
+
+}
\ No newline at end of file
@@ -1,7 +1,16 @@
 package com.epam.test.services.customer;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
-import java.util.logging.Logger;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
 
 /**
  * Class works with Credit File Info page
@@ -10,19 +19,70 @@ import java.util.logging.Logger;
  */
 public class CreditFileInfoService extends BaseService {
 
-	private static final Logger LOG = Logger.getLogger(CreditFileInfoService.class);
+	private static final StructuredLogger LOG = StructuredLogger.getLogger(CreditFileInfoService.class);
 
-	private CreditFileInfoPage creditFileInfoPage;
+	private static final List<CreditFileInfoField> FILLED_FIELDS = Collections.unmodifiableList(Arrays.asList(
+	        CreditFileInfoField.CATEGORY_CODE, CreditFileInfoField.DUE_DATE, CreditFileInfoField.REMARKS,
+	        CreditFileInfoField.PRINT_LETTER));
+
+	private static final int VALIDATION_BATCH_SIZE = 50;
+	private static final Duration DIALOG_TIMEOUT = Duration.ofSeconds(10);
+	private static final String CACHE_PREFIX = "CreditFileInfo.";
+
+	private final CreditFileInfoPage creditFileInfoPage;
+	private final CreditFileInfoElements elements;
+	private final ElementCache elementCache;
+	private final DomWait domWait;
+	private final DomWait.ElementLocator saveLocator;
+	private final Map<WebElement, DropDownOptions> optionsCache = new WeakHashMap<>();
 
 	/**
-	 * Class constructor. It initializes Credit File Info page
+	 * Class constructor. It initializes Credit File Info page. Root elements
+	 * of the fields are kept in the element cache of the driver until the
+	 * dialog is saved or cancelled
 	 *
 	 * @param driver
 	 *            - web driver instance which is defined for all tests
 	 */
 	public CreditFileInfoService(WebDriver driver) {
+		this(driver, ScreenFactory.inst().getCreditFileInfoPage(driver));
+	}
+
+	private CreditFileInfoService(WebDriver driver, CreditFileInfoPage creditFileInfoPage) {
+		this(driver, creditFileInfoPage, elementsOf(creditFileInfoPage));
+	}
+
+	/**
+	 * Class constructor for the page which root elements of the fields are
+	 * located not by its components, e.g. for static replica of the page
+	 *
+	 * @param driver
+	 *            - web driver instance
+	 * @param creditFileInfoPage
+	 *            - Credit File Info page of the driver
+	 * @param located
+	 *            - provider of root elements of the fields
+	 */
+	CreditFileInfoService(WebDriver driver, CreditFileInfoPage creditFileInfoPage,
+	        final CreditFileInfoElements located) {
 		super(driver);
-		creditFileInfoPage = ScreenFactory.inst().getCreditFileInfoPage(driver);
+		this.creditFileInfoPage = creditFileInfoPage;
+		elementCache = ElementCache.of(driver);
+		elements = new CreditFileInfoElements() {
+			@Override
+			public WebElement get(CreditFileInfoField field) {
+				return elementCache.get(CACHE_PREFIX + field.name(), locatorOf(located, field));
+			}
+
+			@Override
+			public WebElement getError(CreditFileInfoField field) {
+				// error components are rendered again by every validation
+				return located.getError(field);
+			}
+		};
+		domWait = new DomWait(driver);
+		// the dialog is waited for by the element which is located every time
+		saveLocator = locatorOf(located, CreditFileInfoField.SAVE);
 	}
 
 	/**
@@ -33,35 +93,140 @@ public class CreditFileInfoService extends BaseService {
 	 */
 	public boolean isFieldsDisplayed() {
 		LOG.debug("Is fields of Credit File Info displayed?");
-		boolean result = creditFileInfoPage.categoryCodeDropDown.isDisplayed()
-		        && creditFileInfoPage.accountNumberDropDown.isDisplayed()
-		        && creditFileInfoPage.dueDateCalendar.isDisplayed()
-		        && creditFileInfoPage.remarksInput.isDisplayed()
-		        && creditFileInfoPage.printLetterSwitcher.isDisplayed()
-		        && isSaveDisplayed() && creditFileInfoPage.cancelButton.isDisplayed();
-		LOG.debug("Is fields displayed? " + result);
+		CreditFileInfoProbeResult probe = probe(EnumSet.allOf(CreditFileInfoField.class));
+		boolean result = probe.isDisplayed();
+		LOG.debug("Is fields displayed?", "result", result, "probe", probe);
 		return result;
 	}
 
 	/**
-	 * Method for checking display of Credit File Info page fields
+	 * Method for checking display of Credit File Info page fields in one
+	 * browser call
+	 *
+	 * @param fields
+	 *            - fields which need to check
+	 * @return state of every field
+	 */
+	public CreditFileInfoProbeResult probe(Collection<CreditFileInfoField> fields) {
+		return probe(fields, Collections.<CreditFileInfoField, String> emptyMap());
+	}
+
+	/**
+	 * Method for checking the validation errors of Credit File Info page
+	 * fields in one browser call
+	 *
+	 * @param expectedErrors
+	 *            - fields with error messages which are expected for them
+	 * @return state of every field
+	 */
+	public CreditFileInfoProbeResult probeErrors(Map<CreditFileInfoField, String> expectedErrors) {
+		return probe(expectedErrors.keySet(), expectedErrors);
+	}
+
+	/**
+	 * Method for checking display and validation errors of Credit File Info
+	 * page fields in one browser call
+	 *
+	 * @param fields
+	 *            - fields which need to check
+	 * @param expectedErrors
+	 *            - fields with error messages which are expected for them
+	 * @return state of every field
+	 */
+	@SuppressWarnings("unchecked")
+	public CreditFileInfoProbeResult probe(Collection<CreditFileInfoField> fields,
+	        Map<CreditFileInfoField, String> expectedErrors) {
+		LOG.debug("Probe fields", "fields", fields, "expectedErrors", expectedErrors);
+		Set<CreditFileInfoField> probed = EnumSet.noneOf(CreditFileInfoField.class);
+		probed.addAll(fields);
+		probed.addAll(expectedErrors.keySet());
+
+		List<WebElement> roots = new ArrayList<>();
+		List<WebElement> errorRoots = new ArrayList<>();
+		for (CreditFileInfoField field : probed) {
+			roots.add(elements.get(field));
+			errorRoots.add(elements.getError(field));
+		}
+		List<Map<String, Object>> states = (List<Map<String, Object>>) executeScript(CreditFileInfoScripts.PROBE,
+		        roots, errorRoots);
+
+		CreditFileInfoProbeResult result = new CreditFileInfoProbeResult(expectedErrors);
+		int index = 0;
+		for (CreditFileInfoField field : probed) {
+			Map<String, Object> state = states.get(index++);
+			result.put(field, new CreditFileInfoProbeResult.FieldState(Boolean.TRUE.equals(state.get("displayed")),
+			        Boolean.TRUE.equals(state.get("errorBox")), (String) state.get("errorText")));
+		}
+		LOG.debug("Result of probe", "result", result);
+		return result;
+	}
+
+	/**
+	 * Method for checking display of Credit File Info page fields. The button
+	 * is looked up without implicit wait, so the closed dialog is reported at
+	 * once
 	 *
 	 * @return true if Save Credit File Info button is displayed; false
 	 *         otherwise
 	 */
 	public boolean isSaveDisplayed() {
 		LOG.debug("Is Save button displayed?");
-		boolean result = creditFileInfoPage.saveButton.isDisplayed();
-		LOG.debug("Is Save button displayed? " + result);
+		boolean result = domWait.isDisplayed(saveLocator);
+		LOG.debug("Is Save button displayed?", "result", result);
+		return result;
+	}
+
+	/**
+	 * Method waits until Credit File Info dialog is opened, i.e. its Save
+	 * button is displayed
+	 *
+	 * @return true if the dialog is opened; false if it isn't opened during
+	 *         the timeout
+	 */
+	public boolean waitForOpened() {
+		LOG.debug("Wait for Credit File Info dialog is opened");
+		boolean result = domWait.untilDisplayed(saveLocator, DIALOG_TIMEOUT);
+		LOG.debug("Is dialog opened?", "result", result);
 		return result;
 	}
 
+	/**
+	 * Method waits until Credit File Info dialog is closed, i.e. its Save
+	 * button is hidden or removed. The wait is finished as soon as the dialog
+	 * disappears, it doesn't wait for the implicit timeout
+	 *
+	 * @return true if the dialog is closed; false if it is still opened after
+	 *         the timeout
+	 */
+	public boolean waitForClosed() {
+		LOG.debug("Wait for Credit File Info dialog is closed");
+		boolean result = domWait.untilAbsent(saveLocator, DIALOG_TIMEOUT);
+		LOG.debug("Is dialog closed?", "result", result);
+		return result;
+	}
+
+	/**
+	 * Method receives markup of Credit File Info dialog for the failure
+	 * report. The dialog is looked up without implicit wait, so the method
+	 * returns at once if the dialog is closed
+	 *
+	 * @return markup of the dialog; markup of the whole page if the dialog
+	 *         isn't displayed
+	 */
+	public String getDialogHtml() {
+		LOG.debug("Get markup of Credit File Info dialog");
+		Object result = executeScript(CreditFileInfoScripts.DIALOG_HTML, domWait.find(saveLocator));
+		return result == null ? null : result.toString();
+	}
+
 	/**
 	 * Method for click on the Save Credit File Info button
 	 */
 	public void save() {
 		LOG.debug("Click Save button");
-		creditFileInfoPage.saveButton.click();
+		elements.get(CreditFileInfoField.SAVE).click();
+		// the dialog is closed or rendered again with validation errors
+		invalidateElements();
 		LOG.debug("Save button pressed");
 	}
 
@@ -71,35 +236,138 @@ public class CreditFileInfoService extends BaseService {
 	 */
 	public void cancel() {
 		LOG.debug("Click Cancel button");
-		creditFileInfoPage.cancelButton.click();
+		elements.get(CreditFileInfoField.CANCEL).click();
+		invalidateElements();
 		LOG.debug("Cancel button pressed");
 	}
 
 	/**
-	 * Method for filling fields of Save Credit File Info page
+	 * Method for filling fields of Save Credit File Info page. All fields are
+	 * filled by one script execution; the fields which aren't filled by script
+	 * are filled through their components
+	 *
+	 * @param creditFileBO
+	 *            - object contains values of Credit File Info page fields
+	 * @return result of filling of every field
+	 */
+	public CreditFileInfoFillReport setCreditInfo(CreditFileBO creditFileBO) {
+		LOG.debug("Fill fields of Credit File Info page", "creditFile", creditFileBO);
+		CreditFileInfoFillReport result = setCreditInfoByScript(creditFileBO);
+		for (CreditFileInfoField field : result.getFailed()) {
+			LOG.debug("Field isn't filled by script, fill it through component", "field", field);
+			fillField(field, creditFileBO, result);
+		}
+		LOG.debug("Fields of Credit File Info page was filled", "result", result);
+		return result;
+	}
+
+	/**
+	 * Method for filling fields of Save Credit File Info page through their
+	 * components, i.e. the same way as the user does it
+	 *
+	 * @param creditFileBO
+	 *            - object contains values of Credit File Info page fields
+	 * @return result of filling of every field
+	 */
+	public CreditFileInfoFillReport setCreditInfoByFields(CreditFileBO creditFileBO) {
+		LOG.debug("Fill fields of Credit File Info page one by one", "creditFile", creditFileBO);
+		CreditFileInfoFillReport result = new CreditFileInfoFillReport();
+		for (CreditFileInfoField field : FILLED_FIELDS) {
+			fillField(field, creditFileBO, result);
+		}
+		LOG.debug("Fields of Credit File Info page was filled", "result", result);
+		return result;
+	}
+
+	/**
+	 * Method for filling fields of Save Credit File Info page in one browser
+	 * call. The script fires input and change events of every field, so the
+	 * validation of the page works as for the user input
 	 *
 	 * @param creditFileBO
 	 *            - object contains values of Credit File Info page fields
+	 * @return result of filling of every field
 	 */
-	public void setCreditInfo(CreditFileBO creditFileBO) {
-		LOG.debug("Fill fields of Credit File Info page with " + creditFileBO);
-		selectCode(creditFileBO.getCode());
-		setDueDate(creditFileBO.getDate());
-		setRemarks(creditFileBO.getRemarks());
-		setPrint(creditFileBO.isPrint());
-		LOG.debug("Fields of Credit File Info page was filled");
+	public CreditFileInfoFillReport setCreditInfoByScript(CreditFileBO creditFileBO) {
+		LOG.debug("Fill fields of Credit File Info page by script", "creditFile", creditFileBO);
+		List<Map<String, Object>> steps = new ArrayList<>();
+		steps.add(fillStep(CreditFileInfoField.CATEGORY_CODE, "choice", creditFileBO.getCode()));
+		steps.add(fillStep(CreditFileInfoField.DUE_DATE, "text", creditFileBO.getDate()));
+		steps.add(fillStep(CreditFileInfoField.REMARKS, "text", creditFileBO.getRemarks()));
+		steps.add(fillStep(CreditFileInfoField.PRINT_LETTER, "switch", creditFileBO.isPrint()));
+
+		List<?> values = (List<?>) executeAsyncScript(CreditFileInfoScripts.FILL, steps);
+
+		CreditFileInfoFillReport result = new CreditFileInfoFillReport();
+		for (int i = 0; i < FILLED_FIELDS.size(); i++) {
+			Object expected = steps.get(i).get("value");
+			Object actual = values.get(i);
+			result.put(FILLED_FIELDS.get(i), expected, actual, expected == null ? actual == null
+			        : expected.equals(actual));
+		}
+		LOG.debug("Result of filling by script", "result", result);
+		return result;
 	}
 
 	/**
-	 * Method receives values of Credit File Info page fields
+	 * Method receives values of Credit File Info page fields. All values are
+	 * read by one script execution; if the snapshot isn't available the values
+	 * are read field by field
 	 *
 	 * @return CreditFileBO is filled by values of opened Credit File Info Page
 	 */
 	public CreditFileBO getCreditInfo() {
 		LOG.debug("Get values of Credit File Info page fields");
+		CreditFileBO result = getCreditInfoSnapshot();
+		if (result == null) {
+			LOG.debug("Snapshot of Credit File Info page isn't available, read fields one by one");
+			result = getCreditInfoByFields();
+		}
+		LOG.debug("Current values of Credit File Info page", "creditFile", result);
+		return result;
+	}
+
+	/**
+	 * Method receives values of Credit File Info page fields by calling of the
+	 * getter of every field
+	 *
+	 * @return CreditFileBO is filled by values of opened Credit File Info Page
+	 */
+	public CreditFileBO getCreditInfoByFields() {
+		LOG.debug("Get values of Credit File Info page fields one by one");
 		CreditFileBO result = new CreditFileBO(getCode(), getAccount(),
 		        getDueDate(), getRemarks(), isPrint());
-		LOG.debug("Current values of Credit File Info page = " + result);
+		LOG.debug("Current values of Credit File Info page", "creditFile", result);
+		return result;
+	}
+
+	/**
+	 * Method receives values of all Credit File Info page fields in one browser
+	 * call
+	 *
+	 * @return CreditFileBO is filled by values of opened Credit File Info Page;
+	 *         null if the values can't be read by script
+	 */
+	@SuppressWarnings("unchecked")
+	public CreditFileBO getCreditInfoSnapshot() {
+		LOG.debug("Get snapshot of Credit File Info page fields");
+		Object snapshot = executeScript(CreditFileInfoScripts.SNAPSHOT,
+		        elements.get(CreditFileInfoField.CATEGORY_CODE),
+		        elements.get(CreditFileInfoField.ACCOUNT_NUMBER),
+		        elements.get(CreditFileInfoField.DUE_DATE),
+		        elements.get(CreditFileInfoField.REMARKS),
+		        elements.get(CreditFileInfoField.PRINT_LETTER));
+
+		if (!(snapshot instanceof Map)) {
+			LOG.debug("Snapshot of Credit File Info page isn't received", "snapshot", snapshot);
+			return null;
+		}
+
+		Map<String, Object> values = (Map<String, Object>) snapshot;
+		CreditFileBO result = new CreditFileBO((String) values.get("code"), (String) values.get("accountNumber"),
+		        (String) values.get("date"), (String) values.get("remarks"),
+		        Boolean.TRUE.equals(values.get("print")));
+		LOG.debug("Snapshot of Credit File Info page", "creditFile", result);
 		return result;
 	}
 
@@ -114,12 +382,27 @@ public class CreditFileInfoService extends BaseService {
 	 *         false otherwise
 	 */
 	public boolean checkCreditInfo(CreditFileBO expected) {
-		LOG.debug("Compare current values of Credit File Info page with " + expected);
-		boolean result = getCreditInfo().equals(expected);
-		LOG.debug("Are forms equals? " + result);
+		List<CreditFileDiff> differences = compareCreditInfo(expected);
+		boolean result = differences.isEmpty();
+		LOG.debug("Are forms equals?", "result", result, "differences", differences);
 		return result;
 	}
 
+	/**
+	 * Method for comparison current values of Credit File Info page fields and
+	 * expected field by field
+	 *
+	 * @param expected
+	 *            - object is filled with values are expected in the fields of
+	 *            Credit File Info page
+	 * @return list of fields which values differ from expected; empty list if
+	 *         Credit File Info page is filled with expected object
+	 */
+	public List<CreditFileDiff> compareCreditInfo(CreditFileBO expected) {
+		LOG.debug("Compare current values of Credit File Info page", "expected", expected);
+		return getCreditInfo().diff(expected);
+	}
+
 	/**
 	 * Method for choose value from Category Code field
 	 *
@@ -129,9 +412,41 @@ public class CreditFileInfoService extends BaseService {
 	 *         otherwise
 	 */
 	public boolean selectCode(String value) {
-		LOG.debug(String.format("Select value \"%s\" of Category Code field", value));
-		boolean result = creditFileInfoPage.categoryCodeDropDown.selectValue(value);
-		LOG.debug("Is value selected? " + result);
+		LOG.debug("Select value of Category Code field", "value", value);
+		DropDownOptions.Option option = getOptions(CreditFileInfoField.CATEGORY_CODE).getOption(value);
+		boolean result = option != null && option.isEnabled()
+		        && value.equals(chooseOption(CreditFileInfoField.CATEGORY_CODE, value));
+		LOG.debug("Is value selected?", "result", result);
+		return result;
+	}
+
+	/**
+	 * Method for get options of Category Code or Account Number drop-down. All
+	 * options are read by one browser call; they are cached until the dialog
+	 * is saved, cancelled or rendered again or another customer is opened
+	 *
+	 * @param field
+	 *            - drop-down field
+	 * @return options of the drop-down
+	 */
+	@SuppressWarnings("unchecked")
+	public DropDownOptions getOptions(CreditFileInfoField field) {
+		DropDownOptions result = optionsCache.get(ElementCache.unwrap(elements.get(field)));
+		if (result != null) {
+			return result;
+		}
+		LOG.debug("Read options of drop-down", "field", field);
+		List<Map<String, Object>> options = (List<Map<String, Object>>) executeAsyncScript(
+		        CreditFileInfoScripts.OPTIONS, elements.get(field));
+		result = new DropDownOptions();
+		for (Map<String, Object> option : options) {
+			result.add((String) option.get("text"), (String) option.get("value"),
+			        !Boolean.FALSE.equals(option.get("enabled")));
+		}
+		// the key is the element of the current dialog, so options of the
+		// rendered again dialog are read again
+		optionsCache.put(ElementCache.unwrap(elements.get(field)), result);
+		LOG.debug("Options of drop-down", "field", field, "count", result.size());
 		return result;
 	}
 
@@ -144,18 +459,45 @@ public class CreditFileInfoService extends BaseService {
 	 * @return true if Account Number field isn't filled; false otherwise
 	 */
 	public boolean checkPutIncorrectInAccount(List<String> incorrectValues) {
-		LOG.debug("Set incorrect values to Account Number field " + incorrectValues);
-		for (String incorrect : incorrectValues) {
-			creditFileInfoPage.accountNumberDropDown.setValue(incorrect);
+		LOG.debug("Set incorrect values to Account Number field", "values", incorrectValues);
+		InputValidationTable table = typeValues(CreditFileInfoField.ACCOUNT_NUMBER, incorrectValues);
+		boolean result = table.isAllRejected();
+		if (result) {
+			LOG.debug("Incorrect values don't set to Account Number field");
+		} else {
+			LOG.debug("Incorrect values are present in Account Number field", "accepted", table.getAccepted());
+		}
+		return result;
+	}
 
-			if (!creditFileInfoPage.accountNumberDropDown.isEmpty()) {
-				LOG.debug("Incorrect value is present in Amount field " + incorrect);
-				return false;
+	/**
+	 * Method for typing of values to the field. Every value is typed key by key
+	 * and the value which was accepted by the field is read; the values are
+	 * typed by batches in a few browser calls. The field is empty after the
+	 * method
+	 *
+	 * @param field
+	 *            - field for typing, e.g. Account Number, Due Date or Remarks
+	 * @param values
+	 *            - values which need to type
+	 * @return table with the accepted value for every typed value
+	 */
+	public InputValidationTable typeValues(CreditFileInfoField field, List<String> values) {
+		LOG.debug("Type values to field", "field", field, "count", values.size());
+		InputValidationTable result = new InputValidationTable(field);
+		WebElement root = elements.get(field);
+		for (int from = 0; from < values.size(); from += VALIDATION_BATCH_SIZE) {
+			List<String> batch = values.subList(from, Math.min(from + VALIDATION_BATCH_SIZE, values.size()));
+			List<?> accepted = (List<?>) executeAsyncScript(CreditFileInfoScripts.VALIDATE, root, batch);
+			if (accepted == null) {
+				throw new IllegalStateException(field.getTitle() + " field has no input control");
+			}
+			for (int i = 0; i < batch.size(); i++) {
+				result.put(batch.get(i), (String) accepted.get(i));
 			}
-
 		}
-		LOG.debug("Incorrect values don't set to Account Number field");
-		return true;
+		LOG.debug("Result of typing", "result", result);
+		return result;
 	}
 
 	/**
@@ -165,8 +507,9 @@ public class CreditFileInfoService extends BaseService {
 	 */
 	public String selectAccountFirstAvailable() {
 		LOG.debug("Select the first available value of Account Number field");
-		String value = creditFileInfoPage.accountNumberDropDown.selectValueFirstAvailable();
-		LOG.debug("Current value of Account Number field = " + value);
+		DropDownOptions.Option option = getOptions(CreditFileInfoField.ACCOUNT_NUMBER).getFirstAvailable();
+		String value = option == null ? null : chooseOption(CreditFileInfoField.ACCOUNT_NUMBER, option.getText());
+		LOG.debug("Current value of Account Number field", "value", value);
 		return value;
 	}
 
@@ -179,9 +522,9 @@ public class CreditFileInfoService extends BaseService {
 	 *         otherwise
 	 */
 	public boolean setDueDate(String value) {
-		LOG.debug(String.format("Select value \"%s\" of Due Date field", value));
+		LOG.debug("Select value of Due Date field", "value", value);
 		boolean result = creditFileInfoPage.dueDateCalendar.setDate(value);
-		LOG.debug(String.format("Is Due Date field with %s? %b", value, result));
+		LOG.debug("Is Due Date field filled?", "value", value, "result", result);
 		return result;
 	}
 
@@ -194,9 +537,9 @@ public class CreditFileInfoService extends BaseService {
 	 *         otherwise
 	 */
 	public boolean setRemarks(String value) {
-		LOG.debug(String.format("Set value \"%s\" to Remarks field", value));
+		LOG.debug("Set value to Remarks field", "value", value);
 		boolean result = creditFileInfoPage.remarksInput.setValue(value);
-		LOG.debug(String.format("Is Remarks field filled with %s? %b", value, result));
+		LOG.debug("Is Remarks field filled?", "value", value, "result", result);
 		return result;
 	}
 
@@ -209,9 +552,9 @@ public class CreditFileInfoService extends BaseService {
 	 *         otherwise
 	 */
 	public boolean setPrint(boolean value) {
-		LOG.debug("Switch Print Letter in", value);
+		LOG.debug("Switch Print Letter", "value", value);
 		boolean result = creditFileInfoPage.printLetterSwitcher.switchTo(value);
-		LOG.debug(String.format("Is Print Letter switched in %b? %b", value, result));
+		LOG.debug("Is Print Letter switched?", "value", value, "result", result);
 		return result;
 	}
 
@@ -223,7 +566,7 @@ public class CreditFileInfoService extends BaseService {
 	public String getCode() {
 		LOG.debug("Get value of Category Code field");
 		String result = creditFileInfoPage.categoryCodeDropDown.getValue();
-		LOG.debug("Current value of Category Code field = " + result);
+		LOG.debug("Current value of Category Code field", "value", result);
 		return result;
 	}
 
@@ -235,7 +578,7 @@ public class CreditFileInfoService extends BaseService {
 	public String getAccount() {
 		LOG.debug("Get value of Account Number field");
 		String result = creditFileInfoPage.accountNumberDropDown.getValue();
-		LOG.debug("Current value of Account Number field = " + result);
+		LOG.debug("Current value of Account Number field", "value", result);
 		return result;
 	}
 
@@ -247,7 +590,7 @@ public class CreditFileInfoService extends BaseService {
 	public String getDueDate() {
 		LOG.debug("Get value of Due Date field");
 		String result = creditFileInfoPage.dueDateCalendar.getDate();
-		LOG.debug("Current value of Due Date field = " + result);
+		LOG.debug("Current value of Due Date field", "value", result);
 		return result;
 	}
 
@@ -259,7 +602,7 @@ public class CreditFileInfoService extends BaseService {
 	public String getRemarks() {
 		LOG.debug("Get value of Remarks field");
 		String result = creditFileInfoPage.remarksInput.getValue();
-		LOG.debug("Current value of Remarks field = " + result);
+		LOG.debug("Current value of Remarks field", "value", result);
 		return result;
 	}
 
@@ -271,7 +614,7 @@ public class CreditFileInfoService extends BaseService {
 	public boolean isPrint() {
 		LOG.debug("Get value of Print Letter field");
 		boolean result = creditFileInfoPage.printLetterSwitcher.isSwitch();
-		LOG.debug("Current value of Print Letter field = " + result);
+		LOG.debug("Current value of Print Letter field", "value", result);
 		return result;
 	}
 
@@ -301,7 +644,7 @@ public class CreditFileInfoService extends BaseService {
 	public boolean isDueDateEmpty() {
 		LOG.debug("Check Due Date is empty");
 		boolean result = creditFileInfoPage.dueDateCalendar.isEmpty();
-		LOG.debug("Is Due Date empty? " + result);
+		LOG.debug("Is Due Date empty?", "result", result);
 		return result;
 	}
 
@@ -313,7 +656,7 @@ public class CreditFileInfoService extends BaseService {
 	public boolean isRemarksEmpty() {
 		LOG.debug("Check Remarks is empty");
 		boolean result = creditFileInfoPage.remarksInput.isEmpty();
-		LOG.debug("Is Remarks empty? " + result);
+		LOG.debug("Is Remarks empty?", "result", result);
 		return result;
 	}
 
@@ -326,7 +669,7 @@ public class CreditFileInfoService extends BaseService {
 		LOG.debug("Check red border and error message are displayed for Category Code");
 		boolean result = creditFileInfoPage.categoryErrorDropDown.isErrorBoxDisplayed()
 		        && creditFileInfoPage.categoryErrorDropDown.checkErrorText(expectedError);
-		LOG.debug("Are red border and error message displayed for Category Code? " + result);
+		LOG.debug("Are red border and error message displayed for Category Code?", "result", result);
 		return result;
 	}
 
@@ -339,7 +682,7 @@ public class CreditFileInfoService extends BaseService {
 		LOG.debug("Check red border and error message are displayed for Due Date");
 		boolean result = creditFileInfoPage.dueDateErrorCalendar.isErrorBoxDisplayed()
 		        && creditFileInfoPage.dueDateErrorCalendar.checkErrorText(expectedError);
-		LOG.debug("Are red border and error message displayed for Due Dates? " + result);
+		LOG.debug("Are red border and error message displayed for Due Date?", "result", result);
 		return result;
 	}
 
@@ -352,8 +695,125 @@ public class CreditFileInfoService extends BaseService {
 		LOG.debug("Check red border and error message are displayed for Remarks");
 		boolean result = creditFileInfoPage.remarksErrorInput.isErrorBoxDisplayed()
 		        && creditFileInfoPage.remarksErrorInput.checkErrorText(expectedError);
-		LOG.debug("Are red border and error message displayed for Remarks? " + result);
+		LOG.debug("Are red border and error message displayed for Remarks?", "result", result);
 		return result;
 	}
 
+	private String chooseOption(CreditFileInfoField field, String text) {
+		return (String) executeAsyncScript(CreditFileInfoScripts.CHOOSE, elements.get(field), text);
+	}
+
+	/**
+	 * Method forgets elements and options of the dialog. It is called when
+	 * another customer is opened, because options of the drop-downs depend on
+	 * the customer even if the page reuses the dialog
+	 */
+	public void invalidate() {
+		LOG.debug("Forget elements and options of Credit File Info dialog");
+		invalidateElements();
+	}
+
+	private void invalidateElements() {
+		elementCache.invalidate(CACHE_PREFIX);
+		optionsCache.clear();
+	}
+
+	private static CreditFileInfoElements elementsOf(final CreditFileInfoPage creditFileInfoPage) {
+		return new CreditFileInfoElements() {
+			@Override
+			public WebElement get(CreditFileInfoField field) {
+				return field.getElement(creditFileInfoPage);
+			}
+
+			@Override
+			public WebElement getError(CreditFileInfoField field) {
+				return field.getErrorElement(creditFileInfoPage);
+			}
+		};
+	}
+
+	private static DomWait.ElementLocator locatorOf(final CreditFileInfoElements provider,
+	        final CreditFileInfoField field) {
+		return new DomWait.ElementLocator() {
+			@Override
+			public WebElement locate() {
+				return provider.get(field);
+			}
+		};
+	}
+
+	private Map<String, Object> fillStep(CreditFileInfoField field, String kind, Object value) {
+		Map<String, Object> step = new HashMap<>();
+		step.put("root", elements.get(field));
+		step.put("kind", kind);
+		step.put("value", value);
+		return step;
+	}
+
+	private void fillField(CreditFileInfoField field, CreditFileBO creditFileBO, CreditFileInfoFillReport report) {
+		boolean success;
+		switch (field) {
+		case CATEGORY_CODE:
+			success = selectCode(creditFileBO.getCode());
+			report.put(field, creditFileBO.getCode(), getCode(), success);
+			break;
+		case DUE_DATE:
+			success = setDueDate(creditFileBO.getDate());
+			report.put(field, creditFileBO.getDate(), getDueDate(), success);
+			break;
+		case REMARKS:
+			success = setRemarks(creditFileBO.getRemarks());
+			report.put(field, creditFileBO.getRemarks(), getRemarks(), success);
+			break;
+		case PRINT_LETTER:
+			success = setPrint(creditFileBO.isPrint());
+			report.put(field, creditFileBO.isPrint(), isPrint(), success);
+			break;
+		default:
+			throw new IllegalArgumentException(field.getTitle() + " can't be filled");
+		}
+	}
+
+	/**
+	 * Method for execution of script on Credit File Info page. If cached
+	 * elements of the arguments are stale, the elements are located again and
+	 * the script is executed once more
+	 *
+	 * @param script
+	 *            - JavaScript code to execute
+	 * @param args
+	 *            - arguments of the script
+	 * @return value returned by the script
+	 */
+	private Object executeScript(String script, Object... args) {
+		try {
+			return ((JavascriptExecutor) driver).executeScript(script, args);
+		} catch (StaleElementReferenceException e) {
+			LOG.debug("Elements of the script are stale, locate them again");
+			invalidateElements();
+			return ((JavascriptExecutor) driver).executeScript(script, args);
+		}
+	}
+
+	/**
+	 * Method for execution of asynchronous script on Credit File Info page. If
+	 * cached elements of the arguments are stale, the elements are located
+	 * again and the script is executed once more
+	 *
+	 * @param script
+	 *            - JavaScript code to execute
+	 * @param args
+	 *            - arguments of the script
+	 * @return value passed by the script to its callback
+	 */
+	private Object executeAsyncScript(String script, Object... args) {
+		try {
+			return ((JavascriptExecutor) driver).executeAsyncScript(script, args);
+		} catch (StaleElementReferenceException e) {
+			LOG.debug("Elements of the script are stale, locate them again");
+			invalidateElements();
+			return ((JavascriptExecutor) driver).executeAsyncScript(script, args);
+		}
+	}
+
 }
\ No newline at end of file
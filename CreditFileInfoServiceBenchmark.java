@@ -0,0 +1,76 @@
+package com.epam.test.services.customer;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of Credit File Info service operations. The service works with
+ * static replica of Credit File Info dialog which is served by embedded HTTP
+ * server and opened in local headless browser
+ *
+ * @author Natalia Amelina
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CreditFileInfoServiceBenchmark {
+
+	private FixtureServer server;
+	private WebDriver driver;
+	private CreditFileInfoService service;
+	private CreditFileBO creditFile;
+
+	/**
+	 * Method starts fixture server and browser with opened fixture
+	 *
+	 * @throws IOException
+	 *             if fixture server isn't started
+	 */
+	@Setup(Level.Trial)
+	public void start() throws IOException {
+		server = new FixtureServer();
+		driver = new LocalDriverFactory("chrome", true).createDriver();
+		driver.get(server.getUrl());
+		service = new CreditFileInfoService(driver, ScreenFactory.inst().getCreditFileInfoPage(driver),
+		        FixtureServer.elementsOf(driver));
+		creditFile = new CreditFileBO("TRADE", "", "01/15/2027", "Benchmark remarks", true);
+		service.setCreditInfo(creditFile);
+	}
+
+	/**
+	 * Method closes browser and fixture server
+	 */
+	@TearDown(Level.Trial)
+	public void stop() {
+		if (driver != null) {
+			driver.quit();
+		}
+		if (server != null) {
+			server.close();
+		}
+	}
+
+	@Benchmark
+	public CreditFileBO getCreditInfo() {
+		return service.getCreditInfo();
+	}
+
+	@Benchmark
+	public CreditFileInfoFillReport setCreditInfo() {
+		return service.setCreditInfo(creditFile);
+	}
+
+	@Benchmark
+	public boolean isFieldsDisplayed() {
+		return service.isFieldsDisplayed();
+	}
+
+	@Benchmark
+	public boolean checkCreditInfo() {
+		return service.checkCreditInfo(creditFile);
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,159 @@
+package com.epam.test.services.customer;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Class for testing of Credit File Info service with static replica of the
+ * dialog in in-memory browser. The scripts of the service are executed by
+ * JavaScript engine of the browser, the tests don't need real browser and
+ * network
+ *
+ * @author Natalia Amelina
+ */
+public class CreditFileInfoServiceTest {
+
+	private static final String ERROR_CATEGORY = "Category Code is required";
+	private static final String ERROR_DUEDATE = "Due Date is required";
+	private static final String ERROR_REMARKS = "Remarks are required";
+
+	private CreditFileInfoFixture fixture;
+	private CreditFileInfoService service;
+
+	/**
+	 * Method opens the replica with empty dialog
+	 *
+	 * @throws IOException
+	 *             if the replica isn't found
+	 */
+	@BeforeMethod()
+	public void openFixture() throws IOException {
+		fixture = new CreditFileInfoFixture();
+		service = fixture.createService();
+	}
+
+	/**
+	 * Method closes the in-memory browser
+	 */
+	@AfterMethod(alwaysRun = true)
+	public void closeFixture() {
+		if (fixture != null) {
+			fixture.close();
+		}
+	}
+
+	@Test(description = "Filled values are read back by one snapshot")
+	public void checkFillAndReadTest() {
+		CreditFileBO expected = new CreditFileBO("TRADE", "", "01/15/2027", "Some remarks", true);
+
+		CreditFileInfoFillReport report = service.setCreditInfo(expected);
+		Assert.assertTrue(report.isSuccess(), "All fields are filled: " + report);
+		Assert.assertEquals(service.getCreditInfo(), expected, "Credit File Info is read as filled");
+		Assert.assertTrue(service.checkCreditInfo(expected), "Credit File Info is filled as required");
+	}
+
+	@Test(description = "Unknown Category Code is reported by fill report and diff")
+	public void checkFillUnknownCodeTest() {
+		CreditFileBO expected = new CreditFileBO("UNKNOWN", "", "01/15/2027", "Some remarks", false);
+
+		CreditFileInfoFillReport report = service.setCreditInfoByScript(expected);
+		Assert.assertEquals(report.getFailed(), Arrays.asList(CreditFileInfoField.CATEGORY_CODE),
+		        "Only Category Code isn't filled: " + report);
+		Assert.assertEquals(service.compareCreditInfo(expected).size(), 1, "Only Category Code differs");
+	}
+
+	@Test(description = "Options of drop-down are read once and selected directly")
+	public void checkSelectOptionsTest() {
+		Assert.assertTrue(service.selectCode("TRADE"), "Category Code is selected");
+		Assert.assertEquals(fixture.getScriptCount(), 2, "Options are read and the option is chosen");
+		Assert.assertTrue(service.selectCode("BANK"), "Another Category Code is selected");
+		Assert.assertFalse(service.selectCode("UNKNOWN"), "Unknown Category Code is selected");
+		Assert.assertEquals(fixture.getScriptCount(), 3, "Options are taken from the cache");
+		Assert.assertEquals(service.selectAccountFirstAvailable(), "1001", "The first enabled account is selected");
+		Assert.assertEquals(fixture.getValue(CreditFileInfoField.CATEGORY_CODE), "BANK", "Category Code is set");
+		Assert.assertEquals(fixture.getValue(CreditFileInfoField.ACCOUNT_NUMBER), "1001", "Account Number is set");
+
+		int scripts = fixture.getScriptCount();
+		Assert.assertEquals(service.getOptions(CreditFileInfoField.ACCOUNT_NUMBER).size(), 3,
+		        "Only options of the list referenced by Account Number are read");
+		Assert.assertEquals(fixture.getScriptCount(), scripts, "Account options are taken from the cache");
+		service.invalidate();
+		service.getOptions(CreditFileInfoField.ACCOUNT_NUMBER);
+		Assert.assertEquals(fixture.getScriptCount(), scripts + 1, "Options are read again for another customer");
+	}
+
+	@Test(description = "Asynchronous commands of one session are run in order of submission")
+	public void checkAsyncSessionTest() {
+		CreditFileBO expected = new CreditFileBO("BANK", "", "01/15/2027", "Some remarks", true);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			CreditFileInfoAsyncService asyncService = new CreditFileInfoAsyncService(service,
+			        new SessionExecutor(executor));
+
+			CompletableFuture<CreditFileBO> filled = asyncService.setCreditInfoAsync(expected);
+			CompletableFuture<List<CreditFileDiff>> differences = asyncService.compareCreditInfoAsync(expected);
+			CompletableFuture<CreditFileBO> read = asyncService.getCreditInfoAsync();
+			Assert.assertEquals(filled.join(), expected, "Credit File Info is read back after filling");
+			Assert.assertTrue(differences.join().isEmpty(), "Credit File Info is compared after filling");
+			Assert.assertEquals(read.join(), expected, "Credit File Info is read after filling");
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test(description = "Dialog is closed by Save and Cancel buttons")
+	public void checkSaveAndCancelTest() {
+		service.save();
+		Assert.assertTrue(service.isSaveDisplayed(), "Dialog with empty required fields isn't closed");
+
+		service.setCreditInfo(new CreditFileBO("BANK", "", "01/15/2027", "Some remarks", false));
+		service.save();
+		Assert.assertTrue(service.waitForClosed(), "Filled dialog is closed after saving");
+		Assert.assertFalse(service.isSaveDisplayed(), "Save button is hidden with the dialog");
+	}
+
+	@Test(description = "Errors of empty required fields are found by one probe")
+	public void checkRequiredErrorsTest() {
+		fixture.getElement(CreditFileInfoField.SAVE).click();
+
+		Map<CreditFileInfoField, String> expectedErrors = new EnumMap<>(CreditFileInfoField.class);
+		expectedErrors.put(CreditFileInfoField.CATEGORY_CODE, ERROR_CATEGORY);
+		expectedErrors.put(CreditFileInfoField.DUE_DATE, ERROR_DUEDATE);
+		expectedErrors.put(CreditFileInfoField.REMARKS, ERROR_REMARKS);
+		CreditFileInfoProbeResult probe = service.probeErrors(expectedErrors);
+		Assert.assertTrue(probe.isErrorsDisplayed(), "Errors are displayed for all required fields: " + probe);
+		Assert.assertFalse(service.probe(Arrays.asList(CreditFileInfoField.ACCOUNT_NUMBER))
+		        .getState(CreditFileInfoField.ACCOUNT_NUMBER).isErrorBoxDisplayed(),
+		        "Field without error component has no error box");
+
+		fixture.hide(CreditFileInfoField.REMARKS);
+		Assert.assertFalse(service.isFieldsDisplayed(), "Hidden Remarks field is found");
+		Assert.assertEquals(service.probe(Arrays.asList(CreditFileInfoField.values())).getNotDisplayed(),
+		        Arrays.asList(CreditFileInfoField.REMARKS), "Only Remarks field isn't displayed");
+	}
+
+	@Test(description = "All incorrect Account Number values are checked in one run")
+	public void checkIncorrectAccountsTest() {
+		List<String> values = Arrays.asList("abc", "-", "12a", "%$#", "1.5");
+
+		InputValidationTable table = service.typeValues(CreditFileInfoField.ACCOUNT_NUMBER, values);
+		Assert.assertEquals(table.size(), values.size(), "Every value is typed");
+		Assert.assertEquals(table.getAccepted(), Arrays.asList("12a", "1.5"), "Digits of values are accepted");
+		Assert.assertFalse(service.checkPutIncorrectInAccount(values), "Values with digits are found");
+
+		table = service.typeValues(CreditFileInfoField.ACCOUNT_NUMBER,
+		        Arrays.asList("abc", "abc", "123456789012"));
+		Assert.assertEquals(table.size(), 3, "Repeated value is typed twice");
+		Assert.assertEquals(table.getRejected(), Arrays.asList("abc", "abc"), "Both typings are rejected");
+		Assert.assertEquals(table.getActual(2), "1234567890", "Value is cut to maxlength of the field");
+		Assert.assertTrue(service.checkPutIncorrectInAccount(Arrays.asList("abc", "-")),
+		        "Values without digits aren't accepted");
+	}
+
+}
\ No newline at end of file
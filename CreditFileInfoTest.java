@@ -1,14 +1,34 @@
 package com.epam.test.tests;
 
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
 /**
  * Class for testing Credit File Info page
  *
  * @author Natalia Amelina
  */
-public class CreditFileInfoTest extends BaseTest {
+@Listeners({ DependencyGraphListener.class, DriverPoolListener.class, MetricsListener.class,
+        TraceListener.class, ShardListener.class, FailureCaptureListener.class })
+public class CreditFileInfoTest extends BaseTest implements FailureSource {
 
-	private static final String PROP_DEFAULT_CUSTOMER_URL = "url.customer.default1";
-	private static final String PROP_USER_CREATOR = "db.user.createdby.1";
 	private static final String PROP_LOGIN_URL = "url.login";
 	private static final String PROP_CREDIT_HEADERS = "credit.view.headers";
 	private static final String PROP_INCORRECT_ACCOUNTS = "incorrect.credit.account.list";
@@ -16,19 +36,49 @@ public class CreditFileInfoTest extends BaseTest {
 	private static final String PROP_ERROR_DUEDATE = "error.message.credit.duedate";
 	private static final String PROP_ERROR_REMARKS = "error.message.credit.remarks";
 
-	private String customerDefault;
+	private static final String PROP_CODE1 = "def.creditfile.categorycode1";
+	private static final String PROP_CODE2 = "def.creditfile.categorycode2";
+	private static final String PROP_REMARKS1 = "def.creditfile.remarks1";
+	private static final String PROP_REMARKS2 = "def.creditfile.remarks2";
+	private static final String[] REQUIRED_KEYS = { CharacterConstants.LOGIN, CharacterConstants.PASSWORD,
+	        PROP_LOGIN_URL, PROP_CREDIT_HEADERS, PROP_INCORRECT_ACCOUNTS, PROP_ERROR_CATEGORY, PROP_ERROR_DUEDATE,
+	        PROP_ERROR_REMARKS, PROP_CODE1, PROP_CODE2, PROP_REMARKS1, PROP_REMARKS2 };
+
+	private static final String PROP_SCENARIO_CODES = "def.creditfile.categorycode.list";
+	private static final String PROP_SCENARIO_OFFSETS = "def.creditfile.duedate.offsets";
+	private static final String PROP_SCENARIO_REMARKS = "def.creditfile.remarks.list";
+	private static final String PROP_SCENARIO_MODE = "creditfile.scenarios";
+	private static final String SCENARIO_MODE_ALL = "all";
+
+	private static final String PROP_POOL_SIZE = "driver.pool.size";
+	private static final int DEFAULT_POOL_SIZE = 2;
+	private static final String PROP_VIEWERS = "creditfile.concurrent.viewers";
+	private static final int DEFAULT_VIEWERS = 1;
+	private static final String PROP_VIEWER_LOGIN = "viewer.login";
+	private static final String PROP_VIEWER_PASSWORD = "viewer.password";
+	private static final String VIEWER_OWNER_SUFFIX = "#viewer";
+	private static final long SESSION_TIMEOUT_SECONDS = 300;
+	private static final String ATTR_CUSTOMER = "customer";
+	private static final String ATTR_INVOCATION_LEASE = "customer.lease";
+	private static final String ATTR_INVOCATION_PERMIT = "customer.permit";
 
 	private UserBO user;
 
-	private LoadPropertiesUtil properties;
+	private TestConfiguration configuration;
 
-	private MainService mainService;
-	private ViewCustomerService viewCustomerService;
-	private MaintenanceService maintenanceService;
-	private CreditInfoFileService creditInfoFileService;
+	private DriverPool driverPool;
+	private boolean ownDriverPool;
+	private final Map<WebDriver, CreditFileInfoContext> contexts = new ConcurrentHashMap<>();
+
+	private CustomerPool customerPool;
+	private final TestDependencyGraph dependencyGraph = new TestDependencyGraph(getClass());
+	private final Set<String> customerLeases = ConcurrentHashMap.newKeySet();
+	private final AtomicLong invocations = new AtomicLong();
+	private Semaphore dataDrivenPermits;
 
 	/**
-	 * Method initializes the global variables
+	 * Method initializes the global variables. The properties file is read
+	 * once per JVM and the test fails at once if any required key is missing
 	 *
 	 * @param fileName
 	 *            - name of *.properties file with data for tests
@@ -36,44 +86,225 @@ public class CreditFileInfoTest extends BaseTest {
 	@Parameters("properties")
 	@BeforeTest()
 	public void initialization(@Optional("dev2.properties") String fileName) {
-		properties = new LoadPropertiesUtil(fileName);
-		mainService = new MainService(driver, properties);
-		viewCustomerService = new ViewCustomerService(driver);
-		maintenanceService = new MaintenanceService(driver);
-		creditInfoFileService = new CreditInfoFileService(driver);
-		user = new UserBO(properties.getPropertyByKey(CharacterConstants.LOGIN),
-		        properties.getPropertyByKey(CharacterConstants.PASSWORD));
-		customerDefault = properties.getPropertyByKey(PROP_DEFAULT_CUSTOMER_URL);
+		configuration = TestConfiguration.load(fileName).requireKeys(REQUIRED_KEYS);
+		user = new UserBO(configuration.getString(CharacterConstants.LOGIN),
+		        configuration.getString(CharacterConstants.PASSWORD));
+		customerPool = CustomerPool.of(configuration);
+		// dependency chains keep their customers till the end of the class
+		dataDrivenPermits = new Semaphore(
+		        Math.max(1, customerPool.getCapacity() - dependencyGraph.getChains().size()), true);
+	}
+
+	/**
+	 * Method gets pool of web drivers. Test methods can be run in parallel,
+	 * every thread works with its own driver from the pool. The pool which is
+	 * shared by the suite is used if it exists, otherwise the class creates
+	 * its own pool
+	 */
+	@BeforeClass()
+	public void createDriverPool() {
+		driverPool = DriverPool.shared();
+		ownDriverPool = driverPool == null;
+		if (ownDriverPool) {
+			driverPool = new DriverPool(Integer.getInteger(PROP_POOL_SIZE, DEFAULT_POOL_SIZE),
+			        new LocalDriverFactory());
+		}
+	}
+
+	/**
+	 * Method closes all web drivers of the own pool. Drivers of the shared
+	 * pool are left for the next test classes
+	 */
+	@AfterClass(alwaysRun = true)
+	public void closeDriverPool() {
+		contexts.clear();
+		if (ownDriverPool) {
+			driverPool.quitAll();
+		}
+		for (String lease : customerLeases) {
+			customerPool.release(lease);
+		}
+		customerLeases.clear();
+	}
+
+	/**
+	 * Method for log in to the web application. The user is logged in through
+	 * UI once, next drivers reuse the cached session
+	 *
+	 * @param context
+	 *            - services of the web driver which need to log in
+	 */
+	private void loginToNymbus(CreditFileInfoContext context) {
+		loginToNymbus(context, user);
+	}
+
+	/**
+	 * Method for log in to the web application as the user
+	 *
+	 * @param context
+	 *            - services of the web driver which need to log in
+	 * @param userBO
+	 *            - user to log in
+	 */
+	private void loginToNymbus(CreditFileInfoContext context, UserBO userBO) {
+		Assert.assertTrue(SessionCache.inst().login(context.getDriver(), configuration.getString(PROP_LOGIN_URL),
+		        userBO, context.getMainService()), "Dashbord page should be displayed");
 	}
 
 	/**
-	 * Method for log in to the web application
+	 * Method for get services of web driver which belongs to the current
+	 * thread. New driver and the driver which is reset after another test
+	 * class are logged in to the web application once
+	 *
+	 * @return services of the current thread
 	 */
-	@BeforeTest(dependsOnMethods = "initialization")
-	public void loginToNymbus() {
-		LoginService loginService = new LoginService(driver);
+	private CreditFileInfoContext context() {
+		WebDriver current = driverPool.acquire(getClass().getName());
+		CreditFileInfoContext context = contexts.get(current);
+		if (context == null || driverPool.isReset()) {
+			context = new CreditFileInfoContext(current, configuration.getProperties());
+			loginToNymbus(context);
+			contexts.put(current, context);
+		}
+		return context;
+	}
 
-		loginService.login(properties.getPropertyByKey(PROP_LOGIN_URL), user);
-		Assert.assertTrue(mainService.isDashboard(),
-		        "Dashbord page should be displayed");
+	/**
+	 * Method for get customer of the test invocation. Test methods which depend
+	 * on each other share the customer till the end of the class. Every other
+	 * invocation, e.g. of data driven test, leases its own customer which is
+	 * released after the invocation; the shared default customer is leased by
+	 * one invocation at a time. The lease is kept in the attributes of the
+	 * invocation result
+	 *
+	 * @param method
+	 *            - test method
+	 * @param result
+	 *            - result of the invocation
+	 * @return URL of customer page
+	 */
+	private String customerOf(Method method, ITestResult result) {
+		String lease = null;
+		if (customerPool.getCapacity() > 1) {
+			for (Set<String> chain : dependencyGraph.getChains()) {
+				if (chain.contains(method.getName())) {
+					lease = getClass().getName() + "#" + chain.iterator().next();
+					customerLeases.add(lease);
+					break;
+				}
+			}
+		}
+		if (lease == null) {
+			lease = getClass().getName() + "#" + method.getName() + "#" + invocations.incrementAndGet();
+			result.setAttribute(ATTR_INVOCATION_LEASE, lease);
+		}
+		String customer = customerPool.acquire(lease);
+		result.setAttribute(ATTR_CUSTOMER, customer);
+		return customer;
 	}
 
 	/**
-	 * Method for removing all additional customer data
+	 * Method for get customer of the running test invocation
+	 *
+	 * @return URL of customer page
 	 */
-	@BeforeTest(dependsOnMethods = "loginToNymbus")
-	public void deleteAdditionalFromCustomer() {
-		CommandToDataBase.removeAdditionalForCustomer(properties.getPropertyByKey(PROP_USER_CREATOR),
-		        ConvertUtil.getCustomerAccountIDFromUrl(customerDefault), properties);
+	private String currentCustomer() {
+		return (String) Reporter.getCurrentTestResult().getAttribute(ATTR_CUSTOMER);
 	}
 
 	/**
-	 * Method for navigating to Maintenance page
+	 * Method for navigating to Maintenance page. The page isn't reloaded if
+	 * the browser is already on Maintenance tab of the customer. The driver
+	 * which session has expired since the previous test is logged in again.
+	 * Invocations of data driven test are limited by count of customers, so
+	 * they don't wait for customers with leased drivers
+	 *
+	 * @param method
+	 *            - test method which is going to be run
+	 * @param result
+	 *            - result of the invocation
 	 */
 	@BeforeMethod()
-	public void openMaintenance() {
-		mainService.goToPage(customerDefault);
-		viewCustomerService.openMaintenance();
+	public void openMaintenance(Method method, ITestResult result) {
+		if (!method.getAnnotation(Test.class).dataProvider().isEmpty()) {
+			dataDrivenPermits.acquireUninterruptibly();
+			result.setAttribute(ATTR_INVOCATION_PERMIT, Boolean.TRUE);
+		}
+		String customer = customerOf(method, result);
+		CreditFileInfoContext context = context();
+		if (!SessionCache.inst().isLoggedIn(context.getDriver(), configuration.getString(PROP_LOGIN_URL),
+		        user)) {
+			loginToNymbus(context);
+			context.getMaintenanceNavigator().reset();
+		}
+		context.getMaintenanceNavigator().openMaintenance(customer);
+	}
+
+	/**
+	 * Method returns web driver of the current thread to the pool and releases
+	 * customer of the invocation
+	 *
+	 * @param result
+	 *            - result of the invocation
+	 */
+	@AfterMethod(alwaysRun = true)
+	public void releaseDriver(ITestResult result) {
+		driverPool.release();
+		String lease = (String) result.getAttribute(ATTR_INVOCATION_LEASE);
+		if (lease != null) {
+			customerPool.release(lease);
+		}
+		if (result.getAttribute(ATTR_INVOCATION_PERMIT) != null) {
+			dataDrivenPermits.release();
+		}
+	}
+
+	/**
+	 * Method passes screenshot, markup of Credit File Info dialog, values of
+	 * its fields and browser console log of the failed test to the writer.
+	 * The method is called before the driver is released, so the driver still
+	 * shows the page of the failure. Every artifact is captured separately,
+	 * the failure of one capture doesn't prevent the others
+	 *
+	 * @param test
+	 *            - name of the failed test
+	 * @param writer
+	 *            - writer of the artifacts
+	 */
+	@Override
+	public void captureFailure(String test, ArtifactWriter writer) {
+		WebDriver driver = driverPool.current();
+		if (driver == null) {
+			return;
+		}
+		try {
+			writer.submit(test, "screenshot.png", ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES));
+		} catch (WebDriverException e) {
+			LOG.warn("Screenshot isn't captured: " + e.getMessage());
+		}
+
+		CreditFileInfoContext context = contexts.get(driver);
+		if (context != null) {
+			CreditFileInfoService creditInfoFileService = context.getCreditInfoFileService();
+			try {
+				writer.submit(test, "dialog.html", creditInfoFileService.getDialogHtml());
+				if (creditInfoFileService.isSaveDisplayed()) {
+					writer.submit(test, "credit-file.txt", String.valueOf(creditInfoFileService.getCreditInfoSnapshot()));
+				}
+			} catch (WebDriverException e) {
+				LOG.warn("Credit File Info dialog isn't captured: " + e.getMessage());
+			}
+		}
+
+		try {
+			StringBuilder log = new StringBuilder();
+			for (LogEntry entry : driver.manage().logs().get(LogType.BROWSER)) {
+				log.append(entry).append(System.lineSeparator());
+			}
+			writer.submit(test, "console.log", log.toString());
+		} catch (WebDriverException e) {
+			LOG.debug("Browser console log isn't captured: " + e.getMessage());
+		}
 	}
 
 	/**
@@ -84,6 +315,7 @@ public class CreditFileInfoTest extends BaseTest {
 	        enabled = true)
 	public void checkGeneralFlowTest() {
 		LOG.info("checkGeneralFlowTest() start");
+		MaintenanceService maintenanceService = context().getMaintenanceService();
 		Assert.assertTrue(maintenanceService.isCreditFileInfoDisplayed(),
 		        "All required fields for form Credit Info File are displayed");
 		LOG.info("checkGeneralFlowTest() finish");
@@ -94,15 +326,16 @@ public class CreditFileInfoTest extends BaseTest {
 	 */
 	@TestCaseLink(url = "https://mediaspectrum.testrail.net/index.php?/cases/view/241813")
 	@Test(description = "Maintenance tab - Credit File Info block - View All",
-	        dependsOnMethods = "create", enabled = true, alwaysRun = true)
+	        dependsOnMethods = "checkCreateTest", enabled = true, alwaysRun = true)
 	public void checkViewAllTest() {
 		LOG.info("checkViewAllTest() start");
+		MaintenanceService maintenanceService = context().getMaintenanceService();
 		maintenanceService.viewAllCredit();
 		Assert.assertTrue(maintenanceService.isAddNewCreditDisplayed()
 		        && maintenanceService.isPrintCreditDisplayed(),
 		        "All required Buttons for View Credit File Info are displayed");
 		Assert.assertTrue(
-		        maintenanceService.checkCreditViewHeaders(properties.getValuesListByKey(PROP_CREDIT_HEADERS)),
+		        maintenanceService.checkCreditViewHeaders(configuration.getList(PROP_CREDIT_HEADERS)),
 		        "All Columns are named as required");
 		LOG.info("checkViewAllTest() finish");
 	}
@@ -115,27 +348,31 @@ public class CreditFileInfoTest extends BaseTest {
 	        enabled = true)
 	public void checkInvalidTest() {
 		LOG.info("checkInvalidTest() start");
+		CreditFileInfoContext context = context();
+		MaintenanceService maintenanceService = context.getMaintenanceService();
+		CreditFileInfoService creditInfoFileService = context.getCreditInfoFileService();
 		maintenanceService.addNewCreditInfoFile();
 		Assert.assertTrue(creditInfoFileService.isFieldsDisplayed(),
 		        "All required fields are displayed on Credit File Info window");
 
 		creditInfoFileService.cancel();
-		Assert.assertTrue(maintenanceService.isAddNewCreditDisplayed()
-		        && (!creditInfoFileService.isSaveDisplayed()),
+		Assert.assertTrue(creditInfoFileService.waitForClosed()
+		        && maintenanceService.isAddNewCreditDisplayed(),
 		        "Credit File Info form is closed");
 
 		maintenanceService.addNewCreditInfoFile();
 		creditInfoFileService.save();
-		Assert.assertTrue(
-		        creditInfoFileService.isCategoryErrorDisplayed(properties.getPropertyByKey(PROP_ERROR_CATEGORY))
-		                && creditInfoFileService.isDueDateErrorDisplayed(properties
-		                        .getPropertyByKey(PROP_ERROR_DUEDATE))
-		                && creditInfoFileService.isRemarksErrorDisplayed(properties
-		                        .getPropertyByKey(PROP_ERROR_REMARKS)),
-		        "Red borders and feedbacks are displayed for all required fields");
-		Assert.assertTrue(creditInfoFileService.checkPutIncorrectInAccount(properties
-		        .getValuesListByKey(PROP_INCORRECT_ACCOUNTS)),
-		        "Incorrect Values aren't entered in Account field");
+		Map<CreditFileInfoField, String> expectedErrors = new EnumMap<>(CreditFileInfoField.class);
+		expectedErrors.put(CreditFileInfoField.CATEGORY_CODE, configuration.getString(PROP_ERROR_CATEGORY));
+		expectedErrors.put(CreditFileInfoField.DUE_DATE, configuration.getString(PROP_ERROR_DUEDATE));
+		expectedErrors.put(CreditFileInfoField.REMARKS, configuration.getString(PROP_ERROR_REMARKS));
+		CreditFileInfoProbeResult probe = creditInfoFileService.probeErrors(expectedErrors);
+		Assert.assertTrue(probe.isErrorsDisplayed(),
+		        "Red borders and feedbacks are displayed for all required fields: " + probe);
+		InputValidationTable incorrectAccounts = creditInfoFileService.typeValues(
+		        CreditFileInfoField.ACCOUNT_NUMBER, configuration.getList(PROP_INCORRECT_ACCOUNTS));
+		Assert.assertTrue(incorrectAccounts.isAllRejected(),
+		        "Incorrect Values aren't entered in Account field: " + incorrectAccounts.getAccepted());
 		LOG.info("checkInvalidTest() finish");
 	}
 
@@ -147,22 +384,26 @@ public class CreditFileInfoTest extends BaseTest {
 	        enabled = true)
 	public void checkCreateTest() {
 		LOG.info("checkCreateTest() start");
-		CreditFileBO creditFile = new CreditFileBO(properties.getPropertyByKey("def.creditfile.categorycode1"),
+		CreditFileInfoContext context = context();
+		MaintenanceService maintenanceService = context.getMaintenanceService();
+		CreditFileInfoService creditInfoFileService = context.getCreditInfoFileService();
+		CreditFileBO creditFile = new CreditFileBO(configuration.getString(PROP_CODE1),
 		        DateConverterUtil.getDateToSeveralDaysInDefaultFormat(2),
-		        properties.getPropertyByKey("def.creditfile.remarks1"), true);
+		        configuration.getString(PROP_REMARKS1), true);
 
 		maintenanceService.addNewCreditInfoFile();
 		creditFile.setAccountNumber(creditInfoFileService.selectAccountFirstAvailable());
-		creditInfoFileService.setCreditInfo(creditFile);
+		CreditFileInfoFillReport fillReport = creditInfoFileService.setCreditInfo(creditFile);
+		Assert.assertTrue(fillReport.isSuccess(), "Credit File Info fields are filled: " + fillReport);
 		creditInfoFileService.save();
-		Assert.assertTrue(maintenanceService.isAddNewCreditDisplayed()
-		        && (!creditInfoFileService.isSaveDisplayed()),
+		Assert.assertTrue(creditInfoFileService.waitForClosed()
+		        && maintenanceService.isAddNewCreditDisplayed(),
 		        "Credit File Info form is closed after saving");
 
 		maintenanceService.viewAllCredit();
 		maintenanceService.editLastCreditFile();
-		Assert.assertTrue(creditInfoFileService.checkCreditInfo(creditFile),
-		        "Credit Info File filled as required");
+		List<CreditFileDiff> differences = creditInfoFileService.compareCreditInfo(creditFile);
+		Assert.assertTrue(differences.isEmpty(), "Credit Info File filled as required: " + differences);
 		LOG.info("checkCreateTest() finish");
 	}
 
@@ -171,12 +412,15 @@ public class CreditFileInfoTest extends BaseTest {
 	 */
 	@TestCaseLink(url = "https://mediaspectrum.testrail.net/index.php?/cases/view/241825")
 	@Test(description = "Maintenance tab - Credit File Info block - Edit Credit File",
-	        dependsOnMethods = "create", enabled = true, alwaysRun = true)
+	        dependsOnMethods = "checkCreateTest", enabled = true, alwaysRun = true)
 	public void checkEditTest() {
 		LOG.info("checkEditTest() start");
-		CreditFileBO creditFile = new CreditFileBO(properties.getPropertyByKey("def.creditfile.categorycode2"),
+		CreditFileInfoContext context = context();
+		MaintenanceService maintenanceService = context.getMaintenanceService();
+		CreditFileInfoService creditInfoFileService = context.getCreditInfoFileService();
+		CreditFileBO creditFile = new CreditFileBO(configuration.getString(PROP_CODE2),
 		        DateConverterUtil.getDateToSeveralDaysInDefaultFormat(5),
-		        properties.getPropertyByKey("def.creditfile.remarks2"), false);
+		        configuration.getString(PROP_REMARKS2), false);
 
 		maintenanceService.viewAllCredit();
 		maintenanceService.editLastCreditFile();
@@ -186,15 +430,16 @@ public class CreditFileInfoTest extends BaseTest {
 		creditInfoFileService.clearDueDate();
 		creditInfoFileService.clearRemarks();
 		creditInfoFileService.save();
-		Assert.assertTrue(
-		        creditInfoFileService.isDueDateErrorDisplayed(properties.getPropertyByKey(PROP_ERROR_DUEDATE))
-		                && creditInfoFileService.isRemarksErrorDisplayed(properties
-		                        .getPropertyByKey(PROP_ERROR_REMARKS)),
-		        "Red borders and feedbacks are displayed for Due Date and Remarks fields");
+		Map<CreditFileInfoField, String> expectedErrors = new EnumMap<>(CreditFileInfoField.class);
+		expectedErrors.put(CreditFileInfoField.DUE_DATE, configuration.getString(PROP_ERROR_DUEDATE));
+		expectedErrors.put(CreditFileInfoField.REMARKS, configuration.getString(PROP_ERROR_REMARKS));
+		CreditFileInfoProbeResult probe = creditInfoFileService.probeErrors(expectedErrors);
+		Assert.assertTrue(probe.isErrorsDisplayed(),
+		        "Red borders and feedbacks are displayed for Due Date and Remarks fields: " + probe);
 
 		creditInfoFileService.cancel();
-		Assert.assertTrue(maintenanceService.isAddNewCreditDisplayed()
-		        && (!creditInfoFileService.isSaveDisplayed()),
+		Assert.assertTrue(creditInfoFileService.waitForClosed()
+		        && maintenanceService.isAddNewCreditDisplayed(),
 		        "Credit File Info form is closed");
 
 		maintenanceService.editLastCreditFile();
@@ -203,12 +448,221 @@ public class CreditFileInfoTest extends BaseTest {
 		        "Due Date and Remarks fields aren't empty");
 
 		creditFile.setAccountNumber(creditInfoFileService.selectAccountFirstAvailable());
-		creditInfoFileService.setCreditInfo(creditFile);
+		CreditFileInfoFillReport fillReport = creditInfoFileService.setCreditInfo(creditFile);
+		Assert.assertTrue(fillReport.isSuccess(), "Credit File Info fields are filled: " + fillReport);
 		creditInfoFileService.save();
 		maintenanceService.editLastCreditFile();
-		Assert.assertTrue(creditInfoFileService.checkCreditInfo(creditFile),
-		        "Credit Info File filled as required after edit");
+		List<CreditFileDiff> differences = creditInfoFileService.compareCreditInfo(creditFile);
+		Assert.assertTrue(differences.isEmpty(), "Credit Info File filled as required after edit: " + differences);
 		LOG.info("checkEditTest() finish");
 	}
 
+	/**
+	 * Method generates Credit File scenarios for data driven tests. By default
+	 * the scenarios cover every pair of values; all combinations are generated
+	 * if "creditfile.scenarios" system property is "all"
+	 *
+	 * @return iterator of scenarios
+	 */
+	@DataProvider(name = "creditFileScenarios", parallel = true)
+	public Iterator<Object[]> creditFileScenarios() {
+		CreditFileScenarios scenarios = new CreditFileScenarios(
+		        configuration.getList(PROP_SCENARIO_CODES, configuration.getString(PROP_CODE1),
+		                configuration.getString(PROP_CODE2)),
+		        configuration.getIntList(PROP_SCENARIO_OFFSETS, 2, 5),
+		        configuration.getList(PROP_SCENARIO_REMARKS, configuration.getString(PROP_REMARKS1),
+		                configuration.getString(PROP_REMARKS2)),
+		        Arrays.asList(true, false));
+		LOG.info("Count of all Credit File scenarios: " + scenarios.size());
+		return SCENARIO_MODE_ALL.equals(System.getProperty(PROP_SCENARIO_MODE)) ? scenarios.all()
+		        : scenarios.pairwise();
+	}
+
+	/**
+	 * Method for checking create of Credit File Info with generated values
+	 *
+	 * @param creditFile
+	 *            - values of Credit File Info
+	 */
+	@TestCaseLink(url = "https://mediaspectrum.testrail.net/index.php?/cases/view/241814")
+	@Test(description = "Maintenance tab - Credit File Info block - Create New (data driven)",
+	        dataProvider = "creditFileScenarios", enabled = true)
+	public void checkCreateDataDrivenTest(CreditFileBO creditFile) {
+		LOG.info("checkCreateDataDrivenTest() start " + creditFile);
+		CreditFileInfoContext context = context();
+		MaintenanceService maintenanceService = context.getMaintenanceService();
+		CreditFileInfoService creditInfoFileService = context.getCreditInfoFileService();
+
+		maintenanceService.addNewCreditInfoFile();
+		creditFile.setAccountNumber(creditInfoFileService.selectAccountFirstAvailable());
+		CreditFileInfoFillReport fillReport = creditInfoFileService.setCreditInfo(creditFile);
+		Assert.assertTrue(fillReport.isSuccess(), "Credit File Info fields are filled: " + fillReport);
+		creditInfoFileService.save();
+
+		// the customer isn't used by other invocations till the end of this
+		// one, so its last record is the record which is created here
+		maintenanceService.viewAllCredit();
+		maintenanceService.editLastCreditFile();
+		List<CreditFileDiff> differences = creditInfoFileService.compareCreditInfo(creditFile);
+		Assert.assertTrue(differences.isEmpty(), "Credit Info File filled as required: " + differences);
+		creditInfoFileService.cancel();
+		LOG.info("checkCreateDataDrivenTest() finish");
+	}
+
+	/**
+	 * Method for checking create of Credit File Info while other users have
+	 * the same customer opened. Every browser session is driven
+	 * asynchronously, so the other users open the customer while the first
+	 * one fills Credit File Info dialog. The other users are logged in as the
+	 * viewer user on drivers which are borrowed from the pool
+	 */
+	@Test(description = "Maintenance tab - Credit File Info block - Create New by one of concurrent users",
+	        enabled = true)
+	public void checkConcurrentUsersTest() {
+		LOG.info("checkConcurrentUsersTest() start");
+		configuration.requireKeys(PROP_VIEWER_LOGIN, PROP_VIEWER_PASSWORD);
+		final UserBO viewerUser = new UserBO(configuration.getString(PROP_VIEWER_LOGIN),
+		        configuration.getString(PROP_VIEWER_PASSWORD));
+		int viewerCount = Integer.getInteger(PROP_VIEWERS, DEFAULT_VIEWERS);
+		if (viewerCount >= driverPool.getSize()) {
+			throw new IllegalStateException(String.format(
+			        "Driver pool of %d drivers can't run the editor and %d viewers", driverPool.getSize(), viewerCount));
+		}
+		final String customer = currentCustomer();
+		final CreditFileInfoContext editor = context();
+		final CreditFileInfoAsyncService editorService = new CreditFileInfoAsyncService(
+		        editor.getCreditInfoFileService(), SessionExecutor.of(editor.getDriver()));
+		final CreditFileBO creditFile = new CreditFileBO(configuration.getString(PROP_CODE1),
+		        DateConverterUtil.getDateToSeveralDaysInDefaultFormat(3),
+		        configuration.getString(PROP_REMARKS1), false);
+
+		// drivers of the viewer user are reset before they are given to tests
+		// of the class and vice versa
+		List<CompletableFuture<WebDriver>> borrowed = new ArrayList<>();
+		try {
+			for (int i = 0; i < viewerCount; i++) {
+				borrowed.add(driverPool.borrow(getClass().getName() + VIEWER_OWNER_SUFFIX));
+			}
+			List<CreditFileInfoContext> viewers = new ArrayList<>();
+			for (CompletableFuture<WebDriver> driver : borrowed) {
+				viewers.add(new CreditFileInfoContext(await(driver), configuration.getProperties()));
+			}
+			List<CompletableFuture<Void>> opened = new ArrayList<>();
+			for (final CreditFileInfoContext viewer : viewers) {
+				opened.add(SessionExecutor.of(viewer.getDriver()).submit(new Callable<Void>() {
+					@Override
+					public Void call() {
+						loginToNymbus(viewer, viewerUser);
+						viewer.getMaintenanceNavigator().openMaintenance(customer);
+						return null;
+					}
+				}));
+			}
+
+			CompletableFuture<String> account = editorService.getSession().submit(new Callable<String>() {
+				@Override
+				public String call() {
+					editor.getMaintenanceService().addNewCreditInfoFile();
+					return editor.getCreditInfoFileService().selectAccountFirstAvailable();
+				}
+			});
+			creditFile.setAccountNumber(await(account));
+			CompletableFuture<CreditFileBO> filled = editorService.setCreditInfoAsync(creditFile);
+			for (CompletableFuture<Void> viewerOpened : opened) {
+				await(viewerOpened);
+			}
+			Assert.assertEquals(await(filled), creditFile, "Credit File Info fields are filled");
+			Assert.assertTrue(await(editorService.saveAsync()), "Credit File Info form is closed after saving");
+
+			List<CompletableFuture<List<CreditFileDiff>>> differences = new ArrayList<>();
+			for (final CreditFileInfoContext viewer : viewers) {
+				final CreditFileInfoAsyncService viewerService = new CreditFileInfoAsyncService(
+				        viewer.getCreditInfoFileService(), SessionExecutor.of(viewer.getDriver()));
+				CompletableFuture<Void> reopened = viewerService.getSession().submit(new Callable<Void>() {
+					@Override
+					public Void call() {
+						// the customer was opened before the record was saved
+						viewer.getMaintenanceNavigator().reset();
+						viewer.getMaintenanceNavigator().openMaintenance(customer);
+						viewer.getMaintenanceService().viewAllCredit();
+						viewer.getMaintenanceService().editLastCreditFile();
+						return null;
+					}
+				});
+				// the record is compared only if it is opened by the viewer
+				differences.add(reopened.thenCompose(
+				        new Function<Void, CompletionStage<List<CreditFileDiff>>>() {
+					        @Override
+					        public CompletionStage<List<CreditFileDiff>> apply(Void ignored) {
+						        return viewerService.compareCreditInfoAsync(creditFile);
+					        }
+				        }));
+			}
+			for (CompletableFuture<List<CreditFileDiff>> viewerDifferences : differences) {
+				List<CreditFileDiff> result = await(viewerDifferences);
+				Assert.assertTrue(result.isEmpty(), "Credit Info File is seen by other user as saved: " + result);
+			}
+		} finally {
+			for (CompletableFuture<WebDriver> driver : borrowed) {
+				giveBack(driver);
+			}
+		}
+		LOG.info("checkConcurrentUsersTest() finish");
+	}
+
+	/**
+	 * Method waits for the result of the browser session command
+	 *
+	 * @param future
+	 *            - future of the command
+	 * @return result of the command
+	 * @throws IllegalStateException
+	 *             if the command isn't finished in time
+	 */
+	private static <T> T await(CompletableFuture<T> future) {
+		try {
+			return future.get(SESSION_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+		} catch (TimeoutException e) {
+			throw new IllegalStateException("Command of browser session isn't finished during "
+			        + SESSION_TIMEOUT_SECONDS + " seconds", e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Waiting for browser session is interrupted", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			if (e.getCause() instanceof Error) {
+				throw (Error) e.getCause();
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	/**
+	 * Method returns borrowed driver to the pool when its session is idle. The
+	 * driver which is still busy after the timeout is closed
+	 *
+	 * @param borrowed
+	 *            - future of the borrowed driver; the driver which is borrowed
+	 *            after the test has failed is returned at once
+	 */
+	private void giveBack(CompletableFuture<WebDriver> borrowed) {
+		borrowed.thenAccept(new Consumer<WebDriver>() {
+			@Override
+			public void accept(WebDriver driver) {
+				try {
+					SessionExecutor.of(driver).idle().get(SESSION_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+					driverPool.giveBack(driver);
+				} catch (TimeoutException | ExecutionException e) {
+					LOG.warn("Session of viewer isn't finished, its driver is closed");
+					driverPool.discard(driver);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					driverPool.discard(driver);
+				}
+			}
+		});
+	}
+
 }
\ No newline at end of file
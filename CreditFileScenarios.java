@@ -0,0 +1,222 @@
+package com.epam.test.tests;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Class generates Credit File scenarios for data driven tests: combinations of
+ * Category Code, Due Date offset, Remarks and Print Letter values. Scenarios
+ * are created one by one while the test iterates them, so the count of
+ * combinations doesn't affect used memory. Every scenario is returned as
+ * parameters of TestNG data provider with one CreditFileBO
+ *
+ * @author Natalia Amelina
+ */
+public class CreditFileScenarios {
+
+	private static final int CODE = 0;
+	private static final int OFFSET = 1;
+	private static final int REMARKS = 2;
+	private static final int PRINT = 3;
+
+	private final List<List<?>> values;
+
+	/**
+	 * Class constructor
+	 *
+	 * @param codes
+	 *            - values of Category Code field
+	 * @param dayOffsets
+	 *            - offsets of Due Date from today in days
+	 * @param remarks
+	 *            - values of Remarks field
+	 * @param prints
+	 *            - values of Print Letter field
+	 */
+	public CreditFileScenarios(List<String> codes, List<Integer> dayOffsets, List<String> remarks,
+	        List<Boolean> prints) {
+		values = Collections.unmodifiableList(Arrays.<List<?>> asList(codes, dayOffsets, remarks, prints));
+		for (List<?> parameter : values) {
+			if (parameter.isEmpty()) {
+				throw new IllegalArgumentException("Every parameter of Credit File scenarios should have values");
+			}
+		}
+	}
+
+	/**
+	 * Method for get all combinations of values
+	 *
+	 * @return iterator of scenarios
+	 */
+	public Iterator<Object[]> all() {
+		return new Iterator<Object[]>() {
+
+			private final int[] indexes = new int[values.size()];
+			private boolean hasNext = true;
+
+			@Override
+			public boolean hasNext() {
+				return hasNext;
+			}
+
+			@Override
+			public Object[] next() {
+				if (!hasNext) {
+					throw new NoSuchElementException();
+				}
+				Object[] result = scenario(indexes);
+				hasNext = false;
+				for (int i = indexes.length - 1; i >= 0; i--) {
+					if (++indexes[i] < values.get(i).size()) {
+						hasNext = true;
+						break;
+					}
+					indexes[i] = 0;
+				}
+				return result;
+			}
+
+			@Override
+			public void remove() {
+				throw new UnsupportedOperationException();
+			}
+		};
+	}
+
+	/**
+	 * Method for get combinations which contain every pair of values of any
+	 * two parameters at least once. It reduces the count of scenarios from the
+	 * product of counts of values to about the product of two largest counts
+	 *
+	 * @return iterator of scenarios
+	 */
+	public Iterator<Object[]> pairwise() {
+		return new Iterator<Object[]>() {
+
+			private final Set<List<Integer>> uncovered = allPairs();
+
+			@Override
+			public boolean hasNext() {
+				return !uncovered.isEmpty();
+			}
+
+			@Override
+			public Object[] next() {
+				if (uncovered.isEmpty()) {
+					throw new NoSuchElementException();
+				}
+				int[] indexes = nextCombination(uncovered);
+				removeCovered(uncovered, indexes);
+				return scenario(indexes);
+			}
+
+			@Override
+			public void remove() {
+				throw new UnsupportedOperationException();
+			}
+		};
+	}
+
+	/**
+	 * Method for get count of all combinations of values
+	 *
+	 * @return count of combinations
+	 */
+	public long size() {
+		long result = 1;
+		for (List<?> parameter : values) {
+			result *= parameter.size();
+		}
+		return result;
+	}
+
+	private Object[] scenario(int[] indexes) {
+		CreditFileBO creditFile = new CreditFileBO((String) values.get(CODE).get(indexes[CODE]),
+		        DateConverterUtil.getDateToSeveralDaysInDefaultFormat((Integer) values.get(OFFSET).get(indexes[OFFSET])),
+		        (String) values.get(REMARKS).get(indexes[REMARKS]), (Boolean) values.get(PRINT).get(indexes[PRINT]));
+		return new Object[] { creditFile };
+	}
+
+	/**
+	 * Pair is the list of first parameter, its value index, second parameter
+	 * and its value index
+	 */
+	private Set<List<Integer>> allPairs() {
+		Set<List<Integer>> result = new HashSet<>();
+		for (int first = 0; first < values.size(); first++) {
+			for (int second = first + 1; second < values.size(); second++) {
+				for (int i = 0; i < values.get(first).size(); i++) {
+					for (int j = 0; j < values.get(second).size(); j++) {
+						result.add(Arrays.asList(first, i, second, j));
+					}
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Greedy step: the combination starts from any uncovered pair and every
+	 * other parameter gets the value which covers the most uncovered pairs
+	 */
+	private int[] nextCombination(Set<List<Integer>> uncovered) {
+		List<Integer> start = uncovered.iterator().next();
+		int[] indexes = new int[values.size()];
+		Arrays.fill(indexes, -1);
+		indexes[start.get(0)] = start.get(1);
+		indexes[start.get(2)] = start.get(3);
+
+		for (int parameter = 0; parameter < values.size(); parameter++) {
+			if (indexes[parameter] >= 0) {
+				continue;
+			}
+			int best = 0;
+			int bestCovered = -1;
+			for (int value = 0; value < values.get(parameter).size(); value++) {
+				indexes[parameter] = value;
+				int covered = countCovered(uncovered, indexes, parameter);
+				if (covered > bestCovered) {
+					best = value;
+					bestCovered = covered;
+				}
+			}
+			indexes[parameter] = best;
+		}
+		return indexes;
+	}
+
+	private int countCovered(Set<List<Integer>> uncovered, int[] indexes, int parameter) {
+		int result = 0;
+		for (int other = 0; other < indexes.length; other++) {
+			if (other == parameter || indexes[other] < 0) {
+				continue;
+			}
+			if (uncovered.contains(pair(parameter, indexes[parameter], other, indexes[other]))) {
+				result++;
+			}
+		}
+		return result;
+	}
+
+	private void removeCovered(Set<List<Integer>> uncovered, int[] indexes) {
+		List<List<Integer>> covered = new ArrayList<>();
+		for (int first = 0; first < indexes.length; first++) {
+			for (int second = first + 1; second < indexes.length; second++) {
+				covered.add(pair(first, indexes[first], second, indexes[second]));
+			}
+		}
+		uncovered.removeAll(covered);
+	}
+
+	private static List<Integer> pair(int first, int firstValue, int second, int secondValue) {
+		return first < second ? Arrays.asList(first, firstValue, second, secondValue)
+		        : Arrays.asList(second, secondValue, first, firstValue);
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,382 @@
+package com.epam.test.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Class contains pool of customer accounts for tests. Every lease gets its own
+ * customer without additional data, so tests of different threads don't
+ * change data of the same customer. Released customers are cleaned by
+ * batches in background and returned to the pool. The pool should contain at
+ * least as many customers as there are dependency chains which are run at once.
+ * Failed cleaning is retried a few times for every customer of the batch
+ * separately; if a customer still isn't cleaned, it is dropped from the pool
+ * and the other customers are still leased. Leases fail at once only when
+ * all customers are dropped. If the pool has only the shared default
+ * customer, leases get it one by one
+ *
+ * @author Natalia Amelina
+ */
+public class CustomerPool {
+
+	private static final StructuredLogger LOG = StructuredLogger.getLogger(CustomerPool.class);
+
+	private static final String PROP_CUSTOMER_POOL = "url.customer.pool";
+	private static final String PROP_DEFAULT_CUSTOMER_URL = "url.customer.default1";
+	private static final String PROP_USER_CREATOR = "db.user.createdby.1";
+	private static final long ACQUIRE_TIMEOUT_MINUTES = 10;
+	private static final long POLL_TIMEOUT_SECONDS = 1;
+	private static final int MAX_CLEAN_ATTEMPTS = 3;
+	private static final long RETRY_DELAY_SECONDS = 10;
+
+	private static CustomerPool instance;
+
+	private final BlockingQueue<String> available = new LinkedBlockingQueue<>();
+	private final BlockingQueue<String> dirty = new LinkedBlockingQueue<>();
+	private final Map<String, String> leased = new HashMap<>();
+	// attempts and dropped customers are counted by the cleaning thread only
+	private final Map<String, Integer> cleanAttempts = new HashMap<>();
+	private final List<String> dropped = new ArrayList<>();
+	private final int customerCount;
+	private volatile IllegalStateException cleaningFailure;
+	private final Cleaner cleaner;
+	private final String sharedCustomer;
+	private final int capacity;
+	private boolean sharedCleaned;
+	private final ScheduledExecutorService cleaning = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "customer-cleaner");
+			thread.setDaemon(true);
+			return thread;
+		}
+	});
+
+	/**
+	 * Interface for removing of additional data of customers
+	 */
+	public interface Cleaner {
+
+		/**
+		 * Method for removing of all additional data of customers
+		 *
+		 * @param customerUrls
+		 *            - URLs of customer pages
+		 */
+		void clean(List<String> customerUrls);
+
+	}
+
+	/**
+	 * Class constructor. All customers are cleaned in background before the
+	 * first lease
+	 *
+	 * @param customerUrls
+	 *            - URLs of customer pages of the pool
+	 * @param shared
+	 *            - true if all leases get the first customer one by one, i.e.
+	 *            the tests which lease it aren't run in parallel; false if
+	 *            every lease gets its own customer
+	 * @param cleaner
+	 *            - cleaner of customer data
+	 */
+	public CustomerPool(List<String> customerUrls, boolean shared, Cleaner cleaner) {
+		if (customerUrls.isEmpty()) {
+			throw new IllegalArgumentException("Customer pool should contain at least one customer");
+		}
+		this.sharedCustomer = shared ? customerUrls.get(0) : null;
+		this.capacity = shared ? 1 : customerUrls.size();
+		this.customerCount = customerUrls.size();
+		this.cleaner = cleaner;
+		dirty.addAll(customerUrls);
+		scheduleCleaning();
+	}
+
+	/**
+	 * Method for get pool of customers which are defined in the properties. The
+	 * pool is created once per JVM and is shared by all test classes
+	 *
+	 * @param configuration
+	 *            - configuration with customers of the pool; if the pool
+	 *            isn't defined the default customer is used
+	 * @return pool of customers
+	 */
+	public static synchronized CustomerPool of(final TestConfiguration configuration) {
+		if (instance == null) {
+			List<String> customers = configuration.getList(PROP_CUSTOMER_POOL);
+			boolean shared = customers.isEmpty();
+			if (shared) {
+				LOG.info("Customer pool isn't defined, all tests share the default customer");
+				customers = new ArrayList<>();
+				customers.add(configuration.getString(PROP_DEFAULT_CUSTOMER_URL));
+			} else {
+				customers = customersOfShard(customers);
+			}
+			instance = new CustomerPool(customers, shared, new Cleaner() {
+				@Override
+				public void clean(List<String> customerUrls) {
+					String creator = configuration.getString(PROP_USER_CREATOR);
+					for (String customerUrl : customerUrls) {
+						CommandToDataBase.removeAdditionalForCustomer(creator,
+						        ConvertUtil.getCustomerAccountIDFromUrl(customerUrl), configuration.getProperties());
+					}
+				}
+			});
+		}
+		return instance;
+	}
+
+	/**
+	 * Method for get customers of the current shard. Workers which run shards
+	 * of the suite at once get different customers
+	 *
+	 * @param customers
+	 *            - all customers of the pool
+	 * @return customers of the shard
+	 * @throws IllegalStateException
+	 *             if there are less customers than shards
+	 */
+	private static List<String> customersOfShard(List<String> customers) {
+		int count = ShardListener.getShardCount();
+		if (count == 1) {
+			return customers;
+		}
+		if (customers.size() < count) {
+			throw new IllegalStateException(String.format(
+			        "Customer pool has %d customers for %d shards, shards would change data of the same customers",
+			        customers.size(), count));
+		}
+		int index = ShardListener.getShardIndex();
+		List<String> result = new ArrayList<>();
+		for (int i = index; i < customers.size(); i += count) {
+			result.add(customers.get(i));
+		}
+		LOG.info("Customers of the shard", "shard", index, "shards", count, "customers", result);
+		return result;
+	}
+
+	/**
+	 * Method for get customer of the lease. The same customer is returned for
+	 * the same lease until it is released, so the tests which share data get
+	 * the same customer. If all customers are busy the method waits for
+	 * cleaned one. If all customers are dropped because they aren't cleaned,
+	 * the method throws exception without waiting. The shared customer is waited until the
+	 * previous lease releases it
+	 *
+	 * @param lease
+	 *            - key of the lease, e.g. name of dependency chain of tests
+	 * @return URL of customer page
+	 */
+	public String acquire(String lease) {
+		if (sharedCustomer != null) {
+			awaitSharedCleaning();
+			awaitSharedRelease(lease);
+			return sharedCustomer;
+		}
+		synchronized (leased) {
+			String customer = leased.get(lease);
+			if (customer != null) {
+				return customer;
+			}
+		}
+
+		String customer = takeCleaned();
+		if (customer == null) {
+			throw new IllegalStateException("No customer is cleaned during " + ACQUIRE_TIMEOUT_MINUTES + " minutes");
+		}
+
+		synchronized (leased) {
+			String current = leased.get(lease);
+			if (current != null) {
+				// another thread of the same lease has got the customer first
+				available.offer(customer);
+				return current;
+			}
+			leased.put(lease, customer);
+		}
+		LOG.info("Customer is leased", "customer", customer, "lease", lease);
+		return customer;
+	}
+
+	/**
+	 * Method for release of customer of the lease. The customer is cleaned in
+	 * background and becomes available for next leases
+	 *
+	 * @param lease
+	 *            - key of the lease
+	 */
+	public void release(String lease) {
+		if (sharedCustomer != null) {
+			synchronized (leased) {
+				if (leased.remove(lease) != null) {
+					LOG.debug("Customer is released", "customer", sharedCustomer, "lease", lease);
+					leased.notifyAll();
+				}
+			}
+			return;
+		}
+		String customer;
+		synchronized (leased) {
+			customer = leased.remove(lease);
+		}
+		if (customer != null) {
+			LOG.info("Customer is released", "customer", customer, "lease", lease);
+			dirty.offer(customer);
+			scheduleCleaning();
+		}
+	}
+
+	/**
+	 * Method for get count of customers which can be leased at once
+	 *
+	 * @return count of customers; 1 if all leases share the default customer
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+
+	private void awaitSharedRelease(String lease) {
+		long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(ACQUIRE_TIMEOUT_MINUTES);
+		synchronized (leased) {
+			while (!leased.isEmpty() && !leased.containsKey(lease)) {
+				long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+				if (remaining <= 0) {
+					throw new IllegalStateException("Customer " + sharedCustomer + " isn't released by "
+					        + leased.keySet() + " during " + ACQUIRE_TIMEOUT_MINUTES + " minutes");
+				}
+				try {
+					leased.wait(remaining);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new IllegalStateException("Waiting for customer is interrupted", e);
+				}
+			}
+			leased.put(lease, sharedCustomer);
+		}
+	}
+
+	private void awaitSharedCleaning() {
+		synchronized (available) {
+			if (sharedCleaned) {
+				return;
+			}
+			if (takeCleaned() == null) {
+				throw new IllegalStateException("Customer " + sharedCustomer + " isn't cleaned during "
+				        + ACQUIRE_TIMEOUT_MINUTES + " minutes");
+			}
+			sharedCleaned = true;
+		}
+	}
+
+	/**
+	 * Method for waiting of cleaned customer. The failure of cleaning is
+	 * checked between short polls, so waiting threads don't wait when no
+	 * customer can be cleaned anymore
+	 *
+	 * @return URL of customer page or null if no customer is cleaned in time
+	 */
+	private String takeCleaned() {
+		long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(ACQUIRE_TIMEOUT_MINUTES);
+		try {
+			do {
+				IllegalStateException failure = cleaningFailure;
+				if (failure != null) {
+					throw new IllegalStateException(failure.getMessage(), failure);
+				}
+				String customer = available.poll(POLL_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+				if (customer != null) {
+					return customer;
+				}
+			} while (System.nanoTime() < deadline);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Waiting for customer is interrupted", e);
+		}
+		return null;
+	}
+
+	private void scheduleCleaning() {
+		scheduleCleaning(0);
+	}
+
+	private void scheduleCleaning(long delaySeconds) {
+		cleaning.schedule(new Runnable() {
+			@Override
+			public void run() {
+				List<String> batch = new ArrayList<>();
+				dirty.drainTo(batch);
+				if (batch.isEmpty()) {
+					return;
+				}
+				LOG.debug("Clean customers", "customers", batch);
+				clean(batch);
+			}
+		}, delaySeconds, TimeUnit.SECONDS);
+	}
+
+	/**
+	 * Method for cleaning of customers. If the batch fails, its customers are
+	 * cleaned one by one, so only the customers which fail are retried
+	 *
+	 * @param batch
+	 *            - customers to clean
+	 */
+	private void clean(List<String> batch) {
+		try {
+			cleaner.clean(batch);
+		} catch (RuntimeException e) {
+			if (batch.size() > 1) {
+				for (String customer : batch) {
+					clean(Collections.singletonList(customer));
+				}
+			} else {
+				retry(batch.get(0), e);
+			}
+			return;
+		}
+		for (String customer : batch) {
+			cleanAttempts.remove(customer);
+		}
+		available.addAll(batch);
+	}
+
+	/**
+	 * Method for returning of not cleaned customer to the queue. If the
+	 * customer isn't cleaned after all attempts, it is dropped from the pool;
+	 * when all customers are dropped, the failure is thrown by next leases
+	 *
+	 * @param customer
+	 *            - customer which isn't cleaned
+	 * @param cause
+	 *            - exception of cleaning
+	 */
+	private void retry(String customer, RuntimeException cause) {
+		Integer attempts = cleanAttempts.get(customer);
+		attempts = attempts == null ? 1 : attempts + 1;
+		if (attempts < MAX_CLEAN_ATTEMPTS) {
+			LOG.warn("Customer isn't cleaned, cleaning is retried", "customer", customer, "error", cause.getMessage());
+			cleanAttempts.put(customer, attempts);
+			dirty.offer(customer);
+			scheduleCleaning(RETRY_DELAY_SECONDS);
+			return;
+		}
+		cleanAttempts.remove(customer);
+		dropped.add(customer);
+		LOG.error("Customer isn't cleaned after all attempts and is dropped from the pool", "customer", customer,
+		        "error", cause.getMessage());
+		if (dropped.size() == customerCount) {
+			cleaningFailure = new IllegalStateException("Customers aren't cleaned after " + MAX_CLEAN_ATTEMPTS
+			        + " attempts " + dropped, cause);
+		}
+	}
+
+}
\ No newline at end of file
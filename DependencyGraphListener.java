@@ -0,0 +1,80 @@
+package com.epam.test.listeners;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Listener validates dependencies of test methods before the suite is started
+ * and orders test methods for parallel run. The suite fails at once if any
+ * test method depends on nonexistent method or dependencies are cyclic.
+ * Methods of the longest dependency chains are started first, so independent
+ * methods are run concurrently on other threads while the chain is in
+ * progress
+ *
+ * @author Natalia Amelina
+ */
+public class DependencyGraphListener implements ISuiteListener, IMethodInterceptor {
+
+	private static final StructuredLogger LOG = StructuredLogger.getLogger(DependencyGraphListener.class);
+
+	private final Map<Class<?>, TestDependencyGraph> graphs = new LinkedHashMap<>();
+
+	@Override
+	public void onStart(ISuite suite) {
+		List<String> errors = new ArrayList<>();
+		for (ITestNGMethod method : suite.getAllMethods()) {
+			TestDependencyGraph graph = graphOf(method.getRealClass());
+			if (!graph.isValid() && !errors.containsAll(graph.getErrors())) {
+				errors.addAll(graph.getErrors());
+			}
+		}
+		if (!errors.isEmpty()) {
+			throw new TestNGException("Dependencies of test methods are invalid: " + errors);
+		}
+		for (TestDependencyGraph graph : graphs.values()) {
+			LOG.info("Dependency chains", "graph", graph);
+		}
+	}
+
+	@Override
+	public void onFinish(ISuite suite) {
+		// nothing to do after the suite
+	}
+
+	@Override
+	public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+		List<IMethodInstance> result = new ArrayList<>(methods);
+		Collections.sort(result, new Comparator<IMethodInstance>() {
+			@Override
+			public int compare(IMethodInstance first, IMethodInstance second) {
+				return chainSize(second) - chainSize(first);
+			}
+		});
+		return result;
+	}
+
+	private int chainSize(IMethodInstance instance) {
+		ITestNGMethod method = instance.getMethod();
+		for (Set<String> chain : graphOf(method.getRealClass()).getChains()) {
+			if (chain.contains(method.getMethodName())) {
+				return chain.size();
+			}
+		}
+		return 1;
+	}
+
+	private synchronized TestDependencyGraph graphOf(Class<?> testClass) {
+		TestDependencyGraph graph = graphs.get(testClass);
+		if (graph == null) {
+			graph = new TestDependencyGraph(testClass);
+			graphs.put(testClass, graph);
+		}
+		return graph;
+	}
+
+}
\ No newline at end of file
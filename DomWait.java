@@ -0,0 +1,277 @@
+package com.epam.test.services;
+
+import java.time.Duration;
+
+/**
+ * Class waits for elements of the page without polling. The element is
+ * looked up with zero implicit wait, so a missing element is reported at
+ * once; then the browser observes DOM mutations and finishes the wait as
+ * soon as the element is shown or hidden. Waits are split into slices which
+ * are shorter than the default script timeout of the driver. Time of every
+ * wait is added to the metrics of the service method which waited
+ *
+ * @author Natalia Amelina
+ */
+public class DomWait {
+
+	private static final StructuredLogger LOG = StructuredLogger.getLogger(DomWait.class);
+
+	private static final long MAX_SLICE_MILLIS = 10000;
+
+	private static final String DONE = "done";
+	private static final String DETACHED = "detached";
+
+	private static final String OBSERVE = ""
+	        + "function displayed(element) {"
+	        + "  if (!element || !element.isConnected) { return false; }"
+	        + "  var style = window.getComputedStyle(element);"
+	        + "  return style.visibility !== 'hidden' && style.display !== 'none'"
+	        + "    && !!(element.offsetWidth || element.offsetHeight || element.getClientRects().length);"
+	        + "}"
+	        + "function observe(check, timeout, callback) {"
+	        + "  var finished = false;"
+	        + "  var observer = new MutationObserver(test);"
+	        + "  var timer = setTimeout(function() { finish('timeout'); }, timeout);"
+	        + "  function finish(result) {"
+	        + "    if (finished) { return; }"
+	        + "    finished = true;"
+	        + "    observer.disconnect();"
+	        + "    clearTimeout(timer);"
+	        + "    document.removeEventListener('transitionend', test, true);"
+	        + "    document.removeEventListener('animationend', test, true);"
+	        + "    callback(result);"
+	        + "  }"
+	        + "  function test() {"
+	        + "    var result = check();"
+	        + "    if (result) { finish(result); }"
+	        + "  }"
+	        // styles of the element may be changed by its ancestors or by the end of
+	        // fade animation, which aren't mutations of the element itself
+	        + "  observer.observe(document.documentElement, { childList: true, subtree: true, attributes: true });"
+	        + "  document.addEventListener('transitionend', test, true);"
+	        + "  document.addEventListener('animationend', test, true);"
+	        + "  test();"
+	        + "}";
+
+	/**
+	 * Waits until the element of the first argument is displayed (second
+	 * argument is true) or hidden (false). The result is "done", "detached"
+	 * if the element is removed from the document or "timeout"
+	 */
+	private static final String WAIT_DISPLAYED = OBSERVE
+	        + "var element = arguments[0];"
+	        + "var expected = arguments[1];"
+	        + "observe(function() {"
+	        + "  if (!element.isConnected) { return 'detached'; }"
+	        + "  return displayed(element) === expected ? 'done' : null;"
+	        + "}, arguments[2], arguments[arguments.length - 1]);";
+
+	/**
+	 * Waits until any node is added to the document. The result is "done" or
+	 * "timeout"
+	 */
+	private static final String WAIT_ADDED = OBSERVE
+	        + "var added = false;"
+	        + "var callback = arguments[arguments.length - 1];"
+	        + "var additions = new MutationObserver(function(mutations) {"
+	        + "  for (var i = 0; i < mutations.length; i++) { added = added || mutations[i].addedNodes.length > 0; }"
+	        + "});"
+	        + "additions.observe(document.documentElement, { childList: true, subtree: true });"
+	        + "observe(function() { return added ? 'done' : null; }, arguments[0], function(result) {"
+	        + "  additions.disconnect();"
+	        + "  callback(result);"
+	        + "});";
+
+	private final WebDriver driver;
+	private Duration implicitWait;
+
+	/**
+	 * Interface locates the element which is waited for
+	 */
+	public interface ElementLocator {
+
+		/**
+		 * Method for get the element
+		 *
+		 * @return the element
+		 * @throws NoSuchElementException
+		 *             if the element isn't present on the page
+		 */
+		WebElement locate();
+
+	}
+
+	/**
+	 * Interface checks the state of the page, e.g. by method of page component
+	 * which looks up its element
+	 */
+	public interface Condition {
+
+		/**
+		 * Method for checking the state
+		 *
+		 * @return true if the page is in expected state; false otherwise
+		 */
+		boolean check();
+
+	}
+
+	/**
+	 * Class constructor
+	 *
+	 * @param driver
+	 *            - web driver of the page
+	 */
+	public DomWait(WebDriver driver) {
+		this.driver = driver;
+	}
+
+	/**
+	 * Method for get the element without implicit wait
+	 *
+	 * @param locator
+	 *            - locator of the element
+	 * @return the element; null if it isn't present on the page
+	 */
+	public WebElement find(ElementLocator locator) {
+		Duration previous = getImplicitWait();
+		driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+		try {
+			// elements of page components are located lazily, so the wrapped
+			// element is located while implicit wait is off
+			return ElementCache.unwrap(locator.locate());
+		} catch (NoSuchElementException | StaleElementReferenceException e) {
+			return null;
+		} finally {
+			driver.manage().timeouts().implicitlyWait(previous);
+		}
+	}
+
+	/**
+	 * Method for checking the state of the page without implicit wait. The
+	 * condition which looks up missing element is false at once instead of
+	 * waiting for the implicit timeout
+	 *
+	 * @param condition
+	 *            - condition to check
+	 * @return result of the condition; false if its element isn't present
+	 */
+	public boolean checkNow(Condition condition) {
+		Duration previous = getImplicitWait();
+		driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+		try {
+			return condition.check();
+		} catch (NoSuchElementException | StaleElementReferenceException e) {
+			return false;
+		} finally {
+			driver.manage().timeouts().implicitlyWait(previous);
+		}
+	}
+
+	/**
+	 * Method for checking display of the element without implicit wait
+	 *
+	 * @param locator
+	 *            - locator of the element
+	 * @return true if the element is present and displayed; false otherwise
+	 */
+	public boolean isDisplayed(ElementLocator locator) {
+		WebElement element = find(locator);
+		try {
+			return element != null && element.isDisplayed();
+		} catch (StaleElementReferenceException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Method waits until the element is displayed
+	 *
+	 * @param locator
+	 *            - locator of the element
+	 * @param timeout
+	 *            - maximal time of the wait
+	 * @return true if the element is displayed; false if it isn't displayed
+	 *         during the timeout
+	 */
+	public boolean untilDisplayed(ElementLocator locator, Duration timeout) {
+		long started = System.nanoTime();
+		try {
+			return awaitDisplayed(locator, timeout);
+		} finally {
+			InstrumentedDriver.recordWait(driver, System.nanoTime() - started);
+		}
+	}
+
+	/**
+	 * Method waits until the element is hidden or removed from the page. The
+	 * wait is finished at once if the element isn't present
+	 *
+	 * @param locator
+	 *            - locator of the element
+	 * @param timeout
+	 *            - maximal time of the wait
+	 * @return true if the element is absent or hidden; false if it is still
+	 *         displayed after the timeout
+	 */
+	public boolean untilAbsent(ElementLocator locator, Duration timeout) {
+		long started = System.nanoTime();
+		try {
+			return awaitAbsent(locator, timeout);
+		} finally {
+			InstrumentedDriver.recordWait(driver, System.nanoTime() - started);
+		}
+	}
+
+	private boolean awaitDisplayed(ElementLocator locator, Duration timeout) {
+		long deadline = System.currentTimeMillis() + timeout.toMillis();
+		do {
+			WebElement element = find(locator);
+			String result = element == null ? waitFor(WAIT_ADDED, deadline) : waitFor(WAIT_DISPLAYED, deadline,
+			        element, true);
+			if (element != null && DONE.equals(result)) {
+				return true;
+			}
+		} while (System.currentTimeMillis() < deadline);
+		LOG.debug("Element isn't displayed in time", "timeout", timeout);
+		return isDisplayed(locator);
+	}
+
+	private boolean awaitAbsent(ElementLocator locator, Duration timeout) {
+		long deadline = System.currentTimeMillis() + timeout.toMillis();
+		do {
+			WebElement element = find(locator);
+			if (element == null) {
+				return true;
+			}
+			String result = waitFor(WAIT_DISPLAYED, deadline, element, false);
+			if (DONE.equals(result)) {
+				return true;
+			}
+			// the removed element may be rendered again, so it is looked up
+			// until the deadline
+		} while (System.currentTimeMillis() < deadline);
+		LOG.debug("Element is still displayed", "timeout", timeout);
+		return !isDisplayed(locator);
+	}
+
+	private String waitFor(String script, long deadline, Object... args) {
+		long slice = Math.min(Math.max(deadline - System.currentTimeMillis(), 0), MAX_SLICE_MILLIS);
+		Object[] scriptArgs = new Object[args.length + 1];
+		System.arraycopy(args, 0, scriptArgs, 0, args.length);
+		scriptArgs[args.length] = slice;
+		try {
+			return (String) ((JavascriptExecutor) driver).executeAsyncScript(script, scriptArgs);
+		} catch (StaleElementReferenceException e) {
+			return DETACHED;
+		}
+	}
+
+	private Duration getImplicitWait() {
+		if (implicitWait == null) {
+			implicitWait = driver.manage().timeouts().getImplicitWaitTimeout();
+		}
+		return implicitWait;
+	}
+
+}
\ No newline at end of file
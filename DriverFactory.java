@@ -0,0 +1,17 @@
+package com.epam.test.driver;
+
+/**
+ * Interface for creation of web driver instances
+ *
+ * @author Natalia Amelina
+ */
+public interface DriverFactory {
+
+	/**
+	 * Method for launching of new web driver instance
+	 *
+	 * @return new web driver
+	 */
+	WebDriver createDriver();
+
+}
\ No newline at end of file
@@ -0,0 +1,492 @@
+package com.epam.test.driver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Class contains bounded pool of web drivers for parallel tests. A driver is
+ * confined to the thread which acquired it until the thread releases it, so a
+ * web driver is never used by two threads at once. Released drivers are
+ * reused by the next tests instead of launching of new browsers. Commands of
+ * the drivers are timed by {@link InstrumentedDriver} unless
+ * webdriver.metrics system property is false
+ * <p>
+ * The pool can be shared by all test classes of the suite: drivers are
+ * launched in background and warmed up by opening of the base URL, a driver
+ * which is acquired by another test class is reset by clearing of cookies
+ * and web storage of the application instead of relaunch, and the driver is quit after the
+ * configured count of test classes
+ * <p>
+ * A test which drives additional browser sessions, e.g. of other users,
+ * borrows drivers which aren't bound to its thread and gives them back when
+ * the sessions are finished
+ *
+ * @author Natalia Amelina
+ */
+public class DriverPool {
+
+	private static final StructuredLogger LOG = StructuredLogger.getLogger(DriverPool.class);
+
+	private static final long ACQUIRE_TIMEOUT_MINUTES = 10;
+	private static final long IDLE_POLL_SECONDS = 1;
+	private static final String PROP_METRICS = "webdriver.metrics";
+	private static final String BLANK_URL = "about:blank";
+	private static final String CLEAR_STORAGE = "window.localStorage.clear(); window.sessionStorage.clear();";
+	private static final String CLEAR_BROWSER_COOKIES = "Network.clearBrowserCookies";
+
+	private static DriverPool shared;
+
+	private final int size;
+	private final DriverFactory factory;
+	private final String warmUrl;
+	private final int maxUses;
+	private final BlockingQueue<WebDriver> idle = new LinkedBlockingQueue<>();
+	private final List<WebDriver> created = new ArrayList<>();
+	private final Map<WebDriver, String> owners = new HashMap<>();
+	private final Map<WebDriver, Integer> uses = new HashMap<>();
+	private final ThreadLocal<WebDriver> leased = new ThreadLocal<>();
+	private final ThreadLocal<Boolean> reset = new ThreadLocal<>();
+	private int launching;
+	private ExecutorService launcher;
+
+	/**
+	 * Class constructor
+	 *
+	 * @param size
+	 *            - maximal count of web drivers which can be launched at once
+	 * @param factory
+	 *            - factory for launching of new web drivers
+	 */
+	public DriverPool(int size, DriverFactory factory) {
+		this(size, factory, null, 0);
+	}
+
+	/**
+	 * Class constructor
+	 *
+	 * @param size
+	 *            - maximal count of web drivers which can be launched at once
+	 * @param factory
+	 *            - factory for launching of new web drivers
+	 * @param warmUrl
+	 *            - URL which is opened by new and reset drivers, so the
+	 *            browser caches its resources; null if new drivers stay blank
+	 * @param maxUses
+	 *            - count of owners after which the driver is quit and
+	 *            replaced by new one; 0 if drivers aren't retired
+	 */
+	public DriverPool(int size, DriverFactory factory, String warmUrl, int maxUses) {
+		if (size < 1) {
+			throw new IllegalArgumentException("Size of driver pool should be positive: " + size);
+		}
+		if (maxUses < 0) {
+			throw new IllegalArgumentException("Count of driver uses shouldn't be negative: " + maxUses);
+		}
+		this.size = size;
+		this.factory = factory;
+		this.warmUrl = warmUrl;
+		this.maxUses = maxUses;
+	}
+
+	/**
+	 * Method makes the pool shared by all test classes of the suite
+	 *
+	 * @param pool
+	 *            - pool to share
+	 */
+	public static synchronized void share(DriverPool pool) {
+		if (shared != null && shared != pool) {
+			throw new IllegalStateException("Driver pool is already shared");
+		}
+		shared = pool;
+	}
+
+	/**
+	 * Method for get the pool which is shared by all test classes of the suite
+	 *
+	 * @return shared pool; null if the pool isn't shared
+	 */
+	public static synchronized DriverPool shared() {
+		return shared;
+	}
+
+	/**
+	 * Method stops sharing of the pool and closes all its web drivers
+	 */
+	public static synchronized void unshare() {
+		if (shared != null) {
+			shared.quitAll();
+			shared = null;
+		}
+	}
+
+	/**
+	 * Method launches web drivers in background, so the first tests get
+	 * already launched and warmed drivers
+	 *
+	 * @param count
+	 *            - count of drivers to launch; it is limited by the size of
+	 *            the pool
+	 */
+	public void warmUp(int count) {
+		int launched = Math.min(count, size);
+		LOG.info("Launch web drivers in background", "count", launched);
+		for (int i = 0; i < launched; i++) {
+			launcher().execute(new Runnable() {
+				@Override
+				public void run() {
+					try {
+						WebDriver driver = launchIfPossible();
+						if (driver != null) {
+							idle.offer(driver);
+						}
+					} catch (RuntimeException e) {
+						LOG.warn("Web driver isn't launched in background", "error", e.getMessage());
+					}
+				}
+			});
+		}
+	}
+
+	/**
+	 * Method for get web driver for the current thread. The thread gets the
+	 * same driver until it releases it. If all drivers are busy the method
+	 * waits for the released one
+	 *
+	 * @return web driver which belongs to the current thread
+	 */
+	public WebDriver acquire() {
+		return acquire(null);
+	}
+
+	/**
+	 * Method for get web driver for the current thread. The driver which was
+	 * used by another owner is reset before it is returned or replaced by new
+	 * one if it has reached the maximal count of uses
+	 *
+	 * @param owner
+	 *            - owner of the driver, e.g. name of the test class; null if
+	 *            the driver shouldn't be reset
+	 * @return web driver which belongs to the current thread
+	 */
+	public WebDriver acquire(String owner) {
+		WebDriver driver = leased.get();
+		reset.set(false);
+		if (driver != null) {
+			return driver;
+		}
+
+		driver = take(owner);
+		leased.set(driver);
+		LOG.debug("Web driver is acquired", "driver", driver, "thread", Thread.currentThread().getName());
+		return driver;
+	}
+
+	/**
+	 * Method for get web driver which isn't bound to any thread, e.g. for the
+	 * session of another user of the test. The driver is taken in background,
+	 * so several drivers are launched or reset at once. The driver should be
+	 * returned by {@link #giveBack(WebDriver)} or {@link #discard(WebDriver)}
+	 *
+	 * @param owner
+	 *            - owner of the driver; the driver of another owner is reset
+	 * @return future of the web driver
+	 */
+	public CompletableFuture<WebDriver> borrow(final String owner) {
+		final CompletableFuture<WebDriver> result = new CompletableFuture<>();
+		launcher().execute(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					WebDriver driver = take(owner);
+					// the state of reset belongs to threads which acquire drivers
+					reset.remove();
+					LOG.debug("Web driver is borrowed", "driver", driver, "owner", owner);
+					result.complete(driver);
+				} catch (RuntimeException e) {
+					result.completeExceptionally(e);
+				}
+			}
+		});
+		return result;
+	}
+
+	/**
+	 * Method returns borrowed web driver to the pool. The driver should have
+	 * no running commands
+	 *
+	 * @param driver
+	 *            - borrowed web driver
+	 */
+	public void giveBack(WebDriver driver) {
+		idle.offer(driver);
+		LOG.debug("Web driver is given back", "driver", driver);
+	}
+
+	/**
+	 * Method closes borrowed web driver which can't be reused, e.g. if its
+	 * commands are still running. Its place in the pool becomes free
+	 *
+	 * @param driver
+	 *            - borrowed web driver
+	 */
+	public void discard(WebDriver driver) {
+		LOG.debug("Web driver is discarded", "driver", driver);
+		retire(driver);
+	}
+
+	/**
+	 * Method for get maximal count of web drivers of the pool
+	 *
+	 * @return size of the pool
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * Method for get web driver which is acquired by the current thread
+	 *
+	 * @return web driver of the current thread; null if the thread has no web
+	 *         driver
+	 */
+	public WebDriver current() {
+		return leased.get();
+	}
+
+	/**
+	 * Method for checking state of web driver of the current thread
+	 *
+	 * @return true if the driver is new or reset by the last call of
+	 *         {@link #acquire(String)}, i.e. it has no session of its owner;
+	 *         false otherwise, e.g. if the thread already had the driver
+	 */
+	public boolean isReset() {
+		return Boolean.TRUE.equals(reset.get());
+	}
+
+	/**
+	 * Method for release of web driver of the current thread. The driver
+	 * becomes available for other threads
+	 */
+	public void release() {
+		WebDriver driver = leased.get();
+		if (driver == null) {
+			return;
+		}
+		leased.remove();
+		reset.remove();
+		idle.offer(driver);
+		LOG.debug("Web driver is released", "driver", driver, "thread", Thread.currentThread().getName());
+	}
+
+	/**
+	 * Method for closing of all web drivers of the pool
+	 */
+	public void quitAll() {
+		List<WebDriver> drivers;
+		synchronized (created) {
+			drivers = new ArrayList<>(created);
+			created.clear();
+			owners.clear();
+			uses.clear();
+			if (launcher != null) {
+				launcher.shutdownNow();
+				launcher = null;
+			}
+		}
+		idle.clear();
+		LOG.debug("Quit web drivers", "count", drivers.size());
+		for (WebDriver driver : drivers) {
+			quit(driver);
+		}
+	}
+
+	/**
+	 * Method takes idle or new web driver. The driver of another owner is
+	 * reset
+	 *
+	 * @param owner
+	 *            - owner of the driver; null if the driver shouldn't be reset
+	 * @return web driver
+	 */
+	private WebDriver take(String owner) {
+		WebDriver driver = null;
+		while (driver == null) {
+			driver = idle.poll();
+			if (driver == null) {
+				driver = launchIfPossible();
+			}
+			if (driver == null) {
+				LOG.debug("All web drivers are busy, wait for released one");
+				driver = waitForIdle();
+			}
+			if (owner != null && !changeOwner(driver, owner)) {
+				// the driver is retired, take another one
+				driver = null;
+			}
+		}
+		return driver;
+	}
+
+	private boolean changeOwner(WebDriver driver, String owner) {
+		int count;
+		synchronized (created) {
+			String previous = owners.put(driver, owner);
+			if (previous == null) {
+				// new driver has no session yet
+				reset.set(true);
+				return true;
+			}
+			if (previous.equals(owner)) {
+				return true;
+			}
+			Integer used = uses.get(driver);
+			count = used == null ? 1 : used + 1;
+			uses.put(driver, count);
+		}
+		if (maxUses > 0 && count >= maxUses) {
+			LOG.debug("Web driver has reached its count of owners, retire it", "driver", driver, "owners", count);
+			retire(driver);
+			return false;
+		}
+		try {
+			resetDriver(driver);
+			reset.set(true);
+			return true;
+		} catch (WebDriverException e) {
+			LOG.warn("Web driver isn't reset, retire it", "error", e.getMessage());
+			retire(driver);
+			return false;
+		}
+	}
+
+	/**
+	 * Method clears session of the previous owner. Cookies and web storage
+	 * can be cleared only for the opened origin, so the application is opened
+	 * first: the warm URL or, if it isn't defined, the page which is left by
+	 * the previous owner. Chromium browsers also clear cookies of all domains.
+	 * Failed clearing is logged and doesn't retire the driver; only failed
+	 * navigation does
+	 *
+	 * @param driver
+	 *            - web driver to reset
+	 */
+	private void resetDriver(WebDriver driver) {
+		LOG.debug("Reset web driver", "driver", driver);
+		String origin = warmUrl == null ? driver.getCurrentUrl() : warmUrl;
+		if (origin != null && origin.startsWith("http")) {
+			if (warmUrl != null) {
+				driver.get(warmUrl);
+			}
+			try {
+				clearBrowserCookies(driver);
+				driver.manage().deleteAllCookies();
+				((JavascriptExecutor) driver).executeScript(CLEAR_STORAGE);
+			} catch (WebDriverException e) {
+				LOG.warn("Session of web driver isn't cleared", "url", origin, "error", e.getMessage());
+			}
+		}
+		driver.get(warmUrl == null ? BLANK_URL : warmUrl);
+	}
+
+	private static void clearBrowserCookies(WebDriver driver) {
+		Object target = InstrumentedDriver.unwrap(driver);
+		if (target instanceof ChromiumDriver) {
+			((ChromiumDriver) target).executeCdpCommand(CLEAR_BROWSER_COOKIES, Collections.<String, Object> emptyMap());
+		}
+	}
+
+	private void retire(WebDriver driver) {
+		synchronized (created) {
+			created.remove(driver);
+			owners.remove(driver);
+			uses.remove(driver);
+		}
+		quit(driver);
+	}
+
+	private void quit(WebDriver driver) {
+		try {
+			driver.quit();
+		} catch (WebDriverException e) {
+			LOG.warn("Web driver isn't closed", "error", e.getMessage());
+		}
+	}
+
+	private WebDriver launchIfPossible() {
+		synchronized (created) {
+			if (launching + created.size() >= size) {
+				return null;
+			}
+			launching++;
+		}
+
+		WebDriver driver = null;
+		try {
+			driver = factory.createDriver();
+			if (!"false".equals(System.getProperty(PROP_METRICS))) {
+				driver = InstrumentedDriver.wrap(driver);
+			}
+			if (warmUrl != null) {
+				driver.get(warmUrl);
+			}
+		} finally {
+			synchronized (created) {
+				launching--;
+				if (driver != null) {
+					created.add(driver);
+					LOG.debug("Web driver is launched", "count", created.size(), "size", size);
+				}
+			}
+		}
+		return driver;
+	}
+
+	private WebDriver waitForIdle() {
+		long deadline = System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(ACQUIRE_TIMEOUT_MINUTES);
+		try {
+			while (System.currentTimeMillis() < deadline) {
+				WebDriver driver = idle.poll(IDLE_POLL_SECONDS, TimeUnit.SECONDS);
+				if (driver == null) {
+					// the slot of the retired or failed driver is free again
+					driver = launchIfPossible();
+				}
+				if (driver != null) {
+					return driver;
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Waiting for web driver is interrupted", e);
+		}
+		throw new IllegalStateException("No web driver is released during " + ACQUIRE_TIMEOUT_MINUTES + " minutes");
+	}
+
+	private ExecutorService launcher() {
+		synchronized (created) {
+			if (launcher == null) {
+				launcher = Executors.newFixedThreadPool(size, new ThreadFactory() {
+					@Override
+					public Thread newThread(Runnable task) {
+						Thread thread = new Thread(task, "driver-launcher");
+						thread.setDaemon(true);
+						return thread;
+					}
+				});
+			}
+			return launcher;
+		}
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.epam.test.listeners;
+
+/**
+ * Listener creates pool of web drivers which is shared by all test classes of
+ * the suite. Headless browsers are launched in background when the suite is
+ * started and quit when it is finished. The pool is configured by system
+ * properties: driver.pool.size, driver.pool.warm (count of browsers to launch
+ * in advance), driver.pool.warm.url (URL which is opened by new and reset
+ * browsers) and driver.pool.max.uses (count of test classes after which the
+ * browser is relaunched)
+ *
+ * @author Natalia Amelina
+ */
+public class DriverPoolListener implements ISuiteListener {
+
+	private static final StructuredLogger LOG = StructuredLogger.getLogger(DriverPoolListener.class);
+
+	private static final String PROP_POOL_SIZE = "driver.pool.size";
+	private static final String PROP_WARM_COUNT = "driver.pool.warm";
+	private static final String PROP_WARM_URL = "driver.pool.warm.url";
+	private static final String PROP_MAX_USES = "driver.pool.max.uses";
+	private static final int DEFAULT_POOL_SIZE = 2;
+	private static final int DEFAULT_MAX_USES = 10;
+
+	@Override
+	public void onStart(ISuite suite) {
+		if (DriverPool.shared() != null) {
+			return;
+		}
+		int size = Integer.getInteger(PROP_POOL_SIZE, DEFAULT_POOL_SIZE);
+		DriverPool pool = new DriverPool(size, LocalDriverFactory.headlessByDefault(),
+		        System.getProperty(PROP_WARM_URL), Integer.getInteger(PROP_MAX_USES, DEFAULT_MAX_USES));
+		DriverPool.share(pool);
+		pool.warmUp(Integer.getInteger(PROP_WARM_COUNT, size));
+		LOG.info("Shared driver pool is created", "suite", suite.getName());
+	}
+
+	@Override
+	public void onFinish(ISuite suite) {
+		DriverPool.unshare();
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,109 @@
+package com.epam.test.services.customer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Class contains options of Credit File Info drop-down which were read by one
+ * browser call
+ *
+ * @author Natalia Amelina
+ */
+public class DropDownOptions {
+
+	private final List<Option> options = new ArrayList<>();
+
+	/**
+	 * Method for adding option of the drop-down
+	 *
+	 * @param text
+	 *            - text of the option as it is shown
+	 * @param value
+	 *            - value of the option; the text if the option has no value
+	 * @param enabled
+	 *            - true if the option can be selected
+	 */
+	void add(String text, String value, boolean enabled) {
+		options.add(new Option(text, value, enabled));
+	}
+
+	public List<Option> getOptions() {
+		return Collections.unmodifiableList(options);
+	}
+
+	/**
+	 * Method for get option by its text
+	 *
+	 * @param text
+	 *            - text of the option
+	 * @return option; null if the drop-down has no such option
+	 */
+	public Option getOption(String text) {
+		for (Option option : options) {
+			if (option.getText().equals(text)) {
+				return option;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Method for get first option which can be selected. Placeholder options
+	 * without value are skipped
+	 *
+	 * @return first enabled option with value; null if there is no such option
+	 */
+	public Option getFirstAvailable() {
+		for (Option option : options) {
+			if (option.isEnabled() && !option.getValue().isEmpty() && !option.getText().isEmpty()) {
+				return option;
+			}
+		}
+		return null;
+	}
+
+	public int size() {
+		return options.size();
+	}
+
+	@Override
+	public String toString() {
+		return options.toString();
+	}
+
+	/**
+	 * Class contains option of the drop-down
+	 */
+	public static final class Option {
+
+		private final String text;
+		private final String value;
+		private final boolean enabled;
+
+		Option(String text, String value, boolean enabled) {
+			this.text = text == null ? "" : text;
+			this.value = value == null ? this.text : value;
+			this.enabled = enabled;
+		}
+
+		public String getText() {
+			return text;
+		}
+
+		public String getValue() {
+			return value;
+		}
+
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		@Override
+		public String toString() {
+			return enabled ? text : text + " (disabled)";
+		}
+
+	}
+
+}
\ No newline at end of file
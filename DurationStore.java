@@ -0,0 +1,195 @@
+package com.epam.test.listeners;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Class keeps durations of test methods between runs. Every run writes to
+ * its own subdirectory of the store directory and every worker writes the
+ * durations of its methods to its own file, so parallel workers don't
+ * overwrite each other. The durations are read only from the directories of
+ * previous runs, so all workers of the run read the same durations even if
+ * one of them has already saved its own. The stored duration is averaged
+ * with the previous one to smooth single slow runs
+ *
+ * @author Natalia Amelina
+ */
+public class DurationStore {
+
+	private static final StructuredLogger LOG = StructuredLogger.getLogger(DurationStore.class);
+
+	private static final String FILE_SUFFIX = ".properties";
+	private static final int KEPT_RUNS = 5;
+
+	private final File dir;
+	private final String runId;
+	private final Map<String, Long> durations = new ConcurrentHashMap<>();
+	private final Map<String, Long> recorded = new ConcurrentHashMap<>();
+
+	/**
+	 * Class constructor. It reads durations of all files of the latest
+	 * previous runs; durations of the latest runs take precedence
+	 *
+	 * @param dir
+	 *            - directory of the store
+	 * @param runId
+	 *            - ID of the current run which is the same for all its
+	 *            workers; durations of this run aren't read
+	 */
+	public DurationStore(File dir, String runId) {
+		this.dir = dir;
+		this.runId = runId;
+		List<File> runs = previousRuns();
+		// the oldest run is read first, so the latest durations replace it
+		Collections.reverse(runs);
+		for (File run : runs.subList(Math.max(runs.size() - KEPT_RUNS, 0), runs.size())) {
+			read(run);
+		}
+	}
+
+	private void read(File run) {
+		File[] files = run.listFiles();
+		if (files == null) {
+			return;
+		}
+		for (File file : files) {
+			if (!file.getName().endsWith(FILE_SUFFIX)) {
+				continue;
+			}
+			Properties properties = new Properties();
+			try (InputStream input = new FileInputStream(file)) {
+				properties.load(input);
+			} catch (IOException e) {
+				LOG.warn("Durations aren't read", "file", file, "error", e.getMessage());
+				continue;
+			}
+			for (String key : properties.stringPropertyNames()) {
+				try {
+					durations.put(key, Long.valueOf(properties.getProperty(key).trim()));
+				} catch (NumberFormatException e) {
+					// the broken line is replaced by the next run
+				}
+			}
+		}
+	}
+
+	/**
+	 * Method for get duration of test method
+	 *
+	 * @param method
+	 *            - name of test method with its class
+	 * @param defaultMillis
+	 *            - duration of the method which wasn't run before
+	 * @return duration in milliseconds
+	 */
+	public long get(String method, long defaultMillis) {
+		Long result = durations.get(method);
+		return result == null ? defaultMillis : result;
+	}
+
+	/**
+	 * Method for adding of duration of test method which is run now.
+	 * Durations of invocations of data driven method are summed
+	 *
+	 * @param method
+	 *            - name of test method with its class
+	 * @param millis
+	 *            - duration in milliseconds
+	 */
+	public void record(String method, long millis) {
+		Long current = recorded.putIfAbsent(method, millis);
+		while (current != null && !recorded.replace(method, current, current + millis)) {
+			current = recorded.get(method);
+		}
+	}
+
+	/**
+	 * Method writes durations which are recorded by this run to the file of
+	 * the worker. Runs which are older than the runs read by this run are
+	 * removed
+	 *
+	 * @param worker
+	 *            - name of the worker, e.g. shard-0
+	 * @throws IOException
+	 *             if the file can't be written
+	 */
+	public void save(String worker) throws IOException {
+		File run = new File(dir, runId);
+		if (!run.isDirectory() && !run.mkdirs()) {
+			throw new IOException("Directory isn't created: " + run);
+		}
+		File file = new File(run, worker + FILE_SUFFIX);
+		Properties properties = new Properties();
+		if (file.isFile()) {
+			try (InputStream input = new FileInputStream(file)) {
+				properties.load(input);
+			}
+		}
+		for (Map.Entry<String, Long> entry : recorded.entrySet()) {
+			Long previous = durations.get(entry.getKey());
+			long duration = previous == null ? entry.getValue() : (previous + entry.getValue()) / 2;
+			properties.setProperty(entry.getKey(), String.valueOf(duration));
+		}
+		try (OutputStream output = new FileOutputStream(file)) {
+			properties.store(output, "Durations of test methods in milliseconds");
+		}
+
+		List<File> runs = previousRuns();
+		// workers of this run which start later read the same previous runs
+		for (File old : runs.subList(Math.min(KEPT_RUNS, runs.size()), runs.size())) {
+			remove(old);
+		}
+	}
+
+	/**
+	 * Method for get directories of previous runs
+	 *
+	 * @return directories from the latest to the oldest one
+	 */
+	private List<File> previousRuns() {
+		List<File> result = new ArrayList<>();
+		File[] found = dir.listFiles();
+		if (found == null) {
+			return result;
+		}
+		for (File file : found) {
+			if (file.isDirectory() && !file.getName().equals(runId)) {
+				result.add(file);
+			}
+		}
+		Collections.sort(result, new Comparator<File>() {
+			@Override
+			public int compare(File first, File second) {
+				int order = Long.compare(second.lastModified(), first.lastModified());
+				return order != 0 ? order : second.getName().compareTo(first.getName());
+			}
+		});
+		return result;
+	}
+
+	private static void remove(File run) {
+		File[] files = run.listFiles();
+		if (files != null) {
+			for (File file : files) {
+				if (!file.delete()) {
+					LOG.debug("Old durations aren't removed", "file", file);
+				}
+			}
+		}
+		if (!run.delete()) {
+			LOG.debug("Old durations aren't removed", "run", run);
+		}
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,163 @@
+package com.epam.test.services;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Class keeps resolved elements of page components for every web driver.
+ * Components of page objects locate their elements on every call; the cache
+ * locates the element once and reuses it while it is attached to the page.
+ * The cached element which has become stale is located again and the command
+ * is repeated once. Services invalidate the cache when the page is reloaded
+ * or its part is rendered again
+ *
+ * @author Natalia Amelina
+ */
+public final class ElementCache {
+
+	private static final StructuredLogger LOG = StructuredLogger.getLogger(ElementCache.class);
+
+	private static final Map<WebDriver, ElementCache> CACHES = Collections
+	        .synchronizedMap(new WeakHashMap<WebDriver, ElementCache>());
+
+	private final Map<String, WebElement> elements = new ConcurrentHashMap<>();
+
+	private ElementCache() {
+	}
+
+	/**
+	 * Method for get the cache of web driver
+	 *
+	 * @param driver
+	 *            - web driver
+	 * @return cache of the driver
+	 */
+	public static ElementCache of(WebDriver driver) {
+		synchronized (CACHES) {
+			ElementCache result = CACHES.get(driver);
+			if (result == null) {
+				result = new ElementCache();
+				CACHES.put(driver, result);
+			}
+			return result;
+		}
+	}
+
+	/**
+	 * Method for get cached element. The element is located at the first
+	 * command and located again when it becomes stale
+	 *
+	 * @param key
+	 *            - key of the element, e.g. name of the page and its field
+	 * @param locator
+	 *            - locator of the element
+	 * @return element which delegates commands to the cached element
+	 */
+	public WebElement get(String key, DomWait.ElementLocator locator) {
+		return (WebElement) Proxy.newProxyInstance(ElementCache.class.getClassLoader(),
+		        new Class<?>[] { WebElement.class, WrapsElement.class }, new CachedElement(key, locator));
+	}
+
+	/**
+	 * Method removes all elements of the driver, e.g. after navigation
+	 */
+	public void invalidate() {
+		LOG.debug("Invalidate cached elements", "count", elements.size());
+		elements.clear();
+	}
+
+	/**
+	 * Method removes elements which keys start with the prefix, e.g. elements
+	 * of the dialog which is closed
+	 *
+	 * @param prefix
+	 *            - prefix of the keys
+	 */
+	public void invalidate(String prefix) {
+		for (Iterator<String> keys = elements.keySet().iterator(); keys.hasNext();) {
+			if (keys.next().startsWith(prefix)) {
+				keys.remove();
+			}
+		}
+	}
+
+	/**
+	 * Method for get the element which is wrapped by page components, e.g.
+	 * by lazy proxies of page factory. The wrapped element is located by this
+	 * call
+	 *
+	 * @param element
+	 *            - element which may be wrapped
+	 * @return the innermost wrapped element
+	 */
+	public static WebElement unwrap(WebElement element) {
+		WebElement result = element;
+		while (result instanceof WrapsElement) {
+			result = ((WrapsElement) result).getWrappedElement();
+		}
+		return result;
+	}
+
+	private WebElement resolve(String key, DomWait.ElementLocator locator) {
+		WebElement result = elements.get(key);
+		if (result == null) {
+			result = unwrap(locator.locate());
+			elements.put(key, result);
+		}
+		return result;
+	}
+
+	/**
+	 * Class delegates commands to the cached element
+	 */
+	private final class CachedElement implements InvocationHandler {
+
+		private final String key;
+		private final DomWait.ElementLocator locator;
+
+		CachedElement(String key, DomWait.ElementLocator locator) {
+			this.key = key;
+			this.locator = locator;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			if (method.getDeclaringClass() == Object.class) {
+				switch (method.getName()) {
+				case "equals":
+					return proxy == args[0];
+				case "hashCode":
+					return System.identityHashCode(proxy);
+				default:
+					return "Cached element " + key;
+				}
+			}
+			if (method.getDeclaringClass() == WrapsElement.class) {
+				return resolve(key, locator);
+			}
+			try {
+				return method.invoke(resolve(key, locator), args);
+			} catch (InvocationTargetException e) {
+				if (!(e.getCause() instanceof StaleElementReferenceException)) {
+					throw e.getCause();
+				}
+			}
+			LOG.debug("Cached element is stale, locate it again", "element", key);
+			elements.remove(key);
+			try {
+				return method.invoke(resolve(key, locator), args);
+			} catch (InvocationTargetException e) {
+				throw e.getCause();
+			}
+		}
+
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,54 @@
+package com.epam.test.listeners;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Listener collects artifacts of failed test methods of the classes which
+ * implement {@link FailureSource}. Raw data is read on the test thread and
+ * written by {@link ArtifactWriter} in background, so the next test starts at
+ * once. The written artifacts are waited for when the suite is finished.
+ * Every failure gets its own number, so failures of parallel invocations of
+ * data driven test don't share the directory of artifacts
+ *
+ * @author Natalia Amelina
+ */
+public class FailureCaptureListener implements IInvokedMethodListener, ISuiteListener {
+
+	private static final StructuredLogger LOG = StructuredLogger.getLogger(FailureCaptureListener.class);
+
+	private static final long SHUTDOWN_TIMEOUT_SECONDS = 60;
+
+	private final AtomicLong failures = new AtomicLong();
+
+	@Override
+	public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+	}
+
+	@Override
+	public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+		if (!method.isTestMethod() || testResult.getStatus() != ITestResult.FAILURE
+		        || !(testResult.getInstance() instanceof FailureSource)) {
+			return;
+		}
+		ITestNGMethod testMethod = method.getTestMethod();
+		String test = testMethod.getRealClass().getSimpleName() + "." + testMethod.getMethodName() + "-"
+		        + failures.incrementAndGet();
+		long started = System.nanoTime();
+		try {
+			((FailureSource) testResult.getInstance()).captureFailure(test, ArtifactWriter.inst());
+		} catch (RuntimeException e) {
+			LOG.warn("Artifacts aren't captured", "test", test, "error", e.getMessage());
+		}
+		LOG.debug("Artifacts are captured", "test", test, "millis", (System.nanoTime() - started) / 1000000);
+	}
+
+	@Override
+	public void onStart(ISuite suite) {
+	}
+
+	@Override
+	public void onFinish(ISuite suite) {
+		ArtifactWriter.inst().shutdown(SHUTDOWN_TIMEOUT_SECONDS);
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.epam.test.listeners;
+
+/**
+ * Interface of test class which provides artifacts of its failed tests, e.g.
+ * screenshot or page markup. The artifacts are collected by
+ * {@link FailureCaptureListener} on the thread of the failed test, so the
+ * implementation should only read raw data and pass it to the writer
+ *
+ * @author Natalia Amelina
+ */
+public interface FailureSource {
+
+	/**
+	 * Method passes artifacts of the failed test to the writer
+	 *
+	 * @param test
+	 *            - name of the failed test
+	 * @param writer
+	 *            - writer which compresses and writes the artifacts in
+	 *            background
+	 */
+	void captureFailure(String test, ArtifactWriter writer);
+
+}
\ No newline at end of file
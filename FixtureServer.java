@@ -0,0 +1,146 @@
+package com.epam.test.services.customer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Class serves static replica of Credit File Info dialog by embedded HTTP
+ * server on the local machine. The server is used by benchmarks of the
+ * service layer, so the browser doesn't depend on test environment; tests of
+ * the service open the replica from the file by in-memory browser. The
+ * fixture is taken from the class path or, if it isn't packaged, from the
+ * directory of benchmark.fixture.dir system property (working directory by
+ * default)
+ *
+ * @author Natalia Amelina
+ */
+public class FixtureServer implements AutoCloseable {
+
+	private static final String FIXTURE = "/credit-file-info.html";
+	private static final String PROP_FIXTURE_DIR = "benchmark.fixture.dir";
+	private static final Map<CreditFileInfoField, String> FIXTURE_IDS = new EnumMap<>(CreditFileInfoField.class);
+	private static final Set<CreditFileInfoField> VALIDATED = Collections.unmodifiableSet(EnumSet.of(
+	        CreditFileInfoField.CATEGORY_CODE, CreditFileInfoField.DUE_DATE, CreditFileInfoField.REMARKS));
+
+	static {
+		FIXTURE_IDS.put(CreditFileInfoField.CATEGORY_CODE, "categoryCode");
+		FIXTURE_IDS.put(CreditFileInfoField.ACCOUNT_NUMBER, "accountNumber");
+		FIXTURE_IDS.put(CreditFileInfoField.DUE_DATE, "dueDate");
+		FIXTURE_IDS.put(CreditFileInfoField.REMARKS, "remarks");
+		FIXTURE_IDS.put(CreditFileInfoField.PRINT_LETTER, "printLetter");
+		FIXTURE_IDS.put(CreditFileInfoField.SAVE, "save");
+		FIXTURE_IDS.put(CreditFileInfoField.CANCEL, "cancel");
+	}
+
+	private final HttpServer server;
+
+	/**
+	 * Class constructor. It starts the server on free port of local host
+	 *
+	 * @throws IOException
+	 *             if the fixture can't be read or the server can't be started
+	 */
+	public FixtureServer() throws IOException {
+		final byte[] page = read(FIXTURE);
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/", new HttpHandler() {
+			@Override
+			public void handle(HttpExchange exchange) throws IOException {
+				exchange.getResponseHeaders().add("Content-Type", "text/html; charset=utf-8");
+				exchange.sendResponseHeaders(200, page.length);
+				try (OutputStream body = exchange.getResponseBody()) {
+					body.write(page);
+				}
+			}
+		});
+		server.start();
+	}
+
+	/**
+	 * Method for get URL of Credit File Info fixture
+	 *
+	 * @return URL of the page
+	 */
+	public String getUrl() {
+		return "http://127.0.0.1:" + server.getAddress().getPort() + FIXTURE;
+	}
+
+	/**
+	 * Method for get URL of Credit File Info fixture without the server
+	 *
+	 * @return URL of the fixture in the class path or in the file system
+	 * @throws IOException
+	 *             if the fixture isn't found
+	 */
+	public static String getFileUrl() throws IOException {
+		URL resource = FixtureServer.class.getResource(FIXTURE);
+		return resource != null ? resource.toExternalForm() : fixtureFile().toURI().toString();
+	}
+
+	/**
+	 * Method for get provider of root elements of the fields of opened
+	 * fixture
+	 *
+	 * @param driver
+	 *            - web driver which has opened the fixture
+	 * @return provider of the elements
+	 */
+	static CreditFileInfoElements elementsOf(final WebDriver driver) {
+		return new CreditFileInfoElements() {
+			@Override
+			public WebElement get(CreditFileInfoField field) {
+				return driver.findElement(By.id(FIXTURE_IDS.get(field)));
+			}
+
+			@Override
+			public WebElement getError(CreditFileInfoField field) {
+				// the form group of the replica is the error component of its field
+				return VALIDATED.contains(field) ? get(field) : null;
+			}
+		};
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+	}
+
+	private static byte[] read(String resource) throws IOException {
+		try (InputStream input = open(resource)) {
+			ByteArrayOutputStream result = new ByteArrayOutputStream();
+			byte[] buffer = new byte[8192];
+			for (int count = input.read(buffer); count > 0; count = input.read(buffer)) {
+				result.write(buffer, 0, count);
+			}
+			return result.toByteArray();
+		}
+	}
+
+	private static InputStream open(String resource) throws IOException {
+		InputStream result = FixtureServer.class.getResourceAsStream(resource);
+		if (result != null) {
+			return result;
+		}
+		return new FileInputStream(fixtureFile());
+	}
+
+	private static File fixtureFile() throws IOException {
+		File file = new File(System.getProperty(PROP_FIXTURE_DIR, "."), FIXTURE.substring(1));
+		if (!file.isFile()) {
+			throw new IOException("Fixture isn't found in class path and at " + file.getAbsolutePath());
+		}
+		return file;
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,172 @@
+package com.epam.test.bo;
+
+import java.util.Objects;
+
+/**
+ * Class contains values of Credit File page fields which can't be changed. It
+ * is a separate value type, not a CreditFileBO, so it has no setters and can be
+ * used as a key of hash based collections. Mutable Credit File is compared with
+ * it through {@link CreditFileBO#toImmutable()}
+ *
+ * @author Natalia Amelina
+ */
+public final class ImmutableCreditFileBO {
+
+	private final String code;
+	private final String accountNumber;
+	private final String date;
+	private final String remarks;
+	private final boolean print;
+	private final int hash;
+
+	/**
+	 * Class constructor
+	 *
+	 * @param code
+	 *            - value of Category Code field
+	 * @param accountNumber
+	 *            - value of Account Number field
+	 * @param date
+	 *            - value of Due Date field
+	 * @param remarks
+	 *            - value of Remarks field
+	 * @param print
+	 *            - value of Print Letter field
+	 */
+	ImmutableCreditFileBO(String code, String accountNumber, String date, String remarks, boolean print) {
+		this.code = code;
+		this.accountNumber = accountNumber;
+		this.date = date;
+		this.remarks = remarks;
+		this.print = print;
+		hash = Objects.hash(code, accountNumber, date, remarks, print);
+	}
+
+	/**
+	 * Method creates builder of immutable Credit File
+	 *
+	 * @return new builder
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	public String getCode() {
+		return code;
+	}
+
+	public String getAccountNumber() {
+		return accountNumber;
+	}
+
+	public String getDate() {
+		return date;
+	}
+
+	public String getRemarks() {
+		return remarks;
+	}
+
+	public boolean isPrint() {
+		return print;
+	}
+
+	/**
+	 * Method creates mutable copy of current object, e.g. to fill the page or
+	 * to change some values for the next step of the test
+	 *
+	 * @return Credit File with the same values
+	 */
+	public CreditFileBO toMutable() {
+		return new CreditFileBO(code, accountNumber, date, remarks, print);
+	}
+
+	/**
+	 * Method for carrying this object to a string representing
+	 *
+	 * @return a string representation of this object
+	 */
+	@Override
+	public String toString() {
+		return toMutable().toString();
+	}
+
+	/**
+	 * Method for comparison of all fields of current object with fields of
+	 * other object
+	 *
+	 * @param obj
+	 *            - object to compare
+	 * @return true if the object is immutable Credit File with the same values
+	 *         of all fields, false otherwise
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof ImmutableCreditFileBO)) {
+			return false;
+		}
+		ImmutableCreditFileBO other = (ImmutableCreditFileBO) obj;
+		return hash == other.hash && print == other.print && Objects.equals(code, other.code)
+		        && Objects.equals(accountNumber, other.accountNumber) && Objects.equals(date, other.date)
+		        && Objects.equals(remarks, other.remarks);
+	}
+
+	@Override
+	public int hashCode() {
+		return hash;
+	}
+
+	/**
+	 * Class builds immutable Credit File
+	 */
+	public static final class Builder {
+
+		private String code;
+		private String accountNumber;
+		private String date;
+		private String remarks;
+		private boolean print;
+
+		private Builder() {
+		}
+
+		public Builder code(String code) {
+			this.code = code;
+			return this;
+		}
+
+		public Builder accountNumber(String accountNumber) {
+			this.accountNumber = accountNumber;
+			return this;
+		}
+
+		public Builder date(String date) {
+			this.date = date;
+			return this;
+		}
+
+		public Builder remarks(String remarks) {
+			this.remarks = remarks;
+			return this;
+		}
+
+		public Builder print(boolean print) {
+			this.print = print;
+			return this;
+		}
+
+		/**
+		 * Method creates Credit File with values of the builder
+		 *
+		 * @return immutable Credit File
+		 */
+		public ImmutableCreditFileBO build() {
+			return new ImmutableCreditFileBO(code, accountNumber, date, remarks, print);
+		}
+
+	}
+
+}
\ No newline at end of file
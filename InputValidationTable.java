@@ -0,0 +1,160 @@
+package com.epam.test.services.customer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Class contains result of typing of values to the field of Credit File Info
+ * page: the value which was accepted by the field for every typed value. The
+ * results are kept in order of typing, so the same value typed twice gives two
+ * results
+ *
+ * @author Natalia Amelina
+ */
+public class InputValidationTable {
+
+	private final CreditFileInfoField field;
+	private final List<Entry> entries = new ArrayList<>();
+
+	/**
+	 * Class contains result of typing of one value
+	 */
+	public static final class Entry {
+
+		private final String typed;
+		private final String actual;
+
+		private Entry(String typed, String actual) {
+			this.typed = typed;
+			this.actual = actual;
+		}
+
+		public String getTyped() {
+			return typed;
+		}
+
+		public String getActual() {
+			return actual;
+		}
+
+		/**
+		 * Method for checking that the field stays empty after typing
+		 *
+		 * @return true if the value is rejected; false otherwise
+		 */
+		public boolean isRejected() {
+			return actual == null || actual.isEmpty();
+		}
+
+	}
+
+	/**
+	 * Class constructor
+	 *
+	 * @param field
+	 *            - field which values were typed to
+	 */
+	InputValidationTable(CreditFileInfoField field) {
+		this.field = field;
+	}
+
+	/**
+	 * Method for adding result of typing of the value
+	 *
+	 * @param typed
+	 *            - value which was typed to the field
+	 * @param actual
+	 *            - value of the field after typing
+	 */
+	void put(String typed, String actual) {
+		entries.add(new Entry(typed, actual));
+	}
+
+	public CreditFileInfoField getField() {
+		return field;
+	}
+
+	/**
+	 * Method for get results of typing in order of typing
+	 *
+	 * @return list of results
+	 */
+	public List<Entry> getEntries() {
+		return Collections.unmodifiableList(entries);
+	}
+
+	/**
+	 * Method for get value of the field after typing of the value
+	 *
+	 * @param index
+	 *            - index of typed value
+	 * @return value of the field
+	 */
+	public String getActual(int index) {
+		return entries.get(index).getActual();
+	}
+
+	/**
+	 * Method for get values which left the field empty
+	 *
+	 * @return list of rejected values
+	 */
+	public List<String> getRejected() {
+		List<String> result = new ArrayList<>();
+		for (Entry entry : entries) {
+			if (entry.isRejected()) {
+				result.add(entry.getTyped());
+			}
+		}
+		return Collections.unmodifiableList(result);
+	}
+
+	/**
+	 * Method for get values which were fully or partially put to the field
+	 *
+	 * @return list of accepted values
+	 */
+	public List<String> getAccepted() {
+		List<String> result = new ArrayList<>();
+		for (Entry entry : entries) {
+			if (!entry.isRejected()) {
+				result.add(entry.getTyped());
+			}
+		}
+		return Collections.unmodifiableList(result);
+	}
+
+	/**
+	 * Method for checking that the field stays empty for all typed values
+	 *
+	 * @return true if all values are rejected; false otherwise
+	 */
+	public boolean isAllRejected() {
+		return getAccepted().isEmpty();
+	}
+
+	/**
+	 * Method for get count of typed values
+	 *
+	 * @return count of values
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Method for carrying this object to a string representing
+	 *
+	 * @return a string representation of this object
+	 */
+	@Override
+	public String toString() {
+		StringBuilder result = new StringBuilder(field.getTitle()).append(':');
+		for (Entry entry : entries) {
+			result.append(String.format(" \"%s\" -> \"%s\";", entry.getTyped(), entry.getActual()));
+		}
+		return result.toString();
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,284 @@
+package com.epam.test.metrics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Class wraps web driver so that every command of the driver, of its elements
+ * and of its options, navigation and target locator is timed and added to
+ * {@link CommandMetrics}. The command is attributed to the outermost public
+ * service method in the call stack, i.e. the operation called by the test;
+ * element search is counted as wait because it includes implicit wait, as
+ * well as commands sent by explicit waits. Waits of {@link DomWait} are
+ * added as a whole by {@link #recordWait(WebDriver, long)}. The command is
+ * also added to the timeline of {@link TraceRecorder}
+ *
+ * @author Natalia Amelina
+ */
+public final class InstrumentedDriver implements InvocationHandler {
+
+	private static final String SERVICES_PACKAGE = "com.epam.test.services.";
+	private static final String WAIT_CLASS = "org.openqa.selenium.support.ui.FluentWait";
+	private static final String DOM_WAIT_CLASS = "com.epam.test.services.DomWait";
+	private static final Set<String> INFRASTRUCTURE_CLASSES = new HashSet<>(Arrays.asList(DOM_WAIT_CLASS,
+	        "com.epam.test.services.ElementCache", "com.epam.test.services.SessionExecutor"));
+	private static final Map<String, Boolean> PUBLIC_METHODS = new ConcurrentHashMap<>();
+	private static final String SELENIUM_PACKAGE = "org.openqa.selenium";
+	private static final String UNKNOWN_METHOD = "-";
+
+	private final Object target;
+	private final String type;
+
+	private InstrumentedDriver(Object target, String type) {
+		this.target = target;
+		this.type = type;
+	}
+
+	/**
+	 * Method wraps web driver with instrumentation
+	 *
+	 * @param driver
+	 *            - web driver to wrap
+	 * @return web driver which implements the same interfaces and times
+	 *         every command; the same driver if it is already wrapped
+	 */
+	public static WebDriver wrap(WebDriver driver) {
+		if (isInstrumented(driver)) {
+			return driver;
+		}
+		return (WebDriver) proxy(driver, "driver");
+	}
+
+	/**
+	 * Method for get wrapped object of the instrumentation
+	 *
+	 * @param object
+	 *            - object which may be wrapped
+	 * @return the wrapped object; the same object if it isn't wrapped
+	 */
+	public static Object unwrap(Object object) {
+		if (isInstrumented(object)) {
+			return ((InstrumentedDriver) Proxy.getInvocationHandler(object)).target;
+		}
+		return object;
+	}
+
+	@Override
+	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+		if (method.getDeclaringClass() == Object.class) {
+			return invokeObjectMethod(proxy, method, args);
+		}
+
+		Object[] targetArgs = unwrapArgs(args);
+		long started = System.nanoTime();
+		Object result;
+		try {
+			result = method.invoke(target, targetArgs);
+		} catch (InvocationTargetException e) {
+			throw e.getCause();
+		} finally {
+			record(method, started, System.nanoTime() - started);
+		}
+		return wrapResult(method, result);
+	}
+
+	private Object invokeObjectMethod(Object proxy, Method method, Object[] args) throws Throwable {
+		switch (method.getName()) {
+		case "equals":
+			return proxy == args[0] || target.equals(unwrap(args[0]));
+		case "hashCode":
+			return target.hashCode();
+		default:
+			return method.invoke(target, args);
+		}
+	}
+
+	private void record(Method method, long started, long nanos) {
+		StackTraceElement[] stack = new Throwable().getStackTrace();
+		String command = type + "." + method.getName();
+		boolean wait = method.getName().startsWith("find");
+		boolean explicitWait = false;
+		String serviceMethod = UNKNOWN_METHOD;
+		List<String> services = new ArrayList<>();
+		for (int i = 0; i < stack.length; i++) {
+			String className = stack[i].getClassName();
+			if (WAIT_CLASS.equals(className)) {
+				wait = true;
+			}
+			if (DOM_WAIT_CLASS.equals(className)) {
+				explicitWait = true;
+			}
+			if (isServiceMethod(stack[i])) {
+				// the outermost service method is the operation called by the test
+				serviceMethod = simpleName(className) + "." + stack[i].getMethodName();
+				StackTraceElement caller = i + 1 < stack.length ? stack[i + 1] : stack[i];
+				services.add(0, serviceMethod + "@" + caller.getFileName() + ":" + caller.getLineNumber());
+			}
+		}
+		// time of the explicit wait is added as a whole by recordWait(), so
+		// its commands aren't counted as waits twice
+		CommandMetrics.inst().record(serviceMethod, command, nanos, wait && !explicitWait);
+		TraceRecorder.inst().command(services, command, started, nanos);
+	}
+
+	/**
+	 * Method for adding of explicit wait to the metrics of the service method
+	 * which waited. The wait isn't added if the driver isn't instrumented
+	 *
+	 * @param driver
+	 *            - web driver of the page
+	 * @param nanos
+	 *            - time of the wait in nanoseconds
+	 */
+	public static void recordWait(WebDriver driver, long nanos) {
+		if (!isInstrumented(driver)) {
+			return;
+		}
+		String serviceMethod = UNKNOWN_METHOD;
+		for (StackTraceElement frame : new Throwable().getStackTrace()) {
+			if (isServiceMethod(frame)) {
+				serviceMethod = simpleName(frame.getClassName()) + "." + frame.getMethodName();
+			}
+		}
+		CommandMetrics.inst().recordWait(serviceMethod, nanos);
+	}
+
+	/**
+	 * Method checks that the frame is a public method of a service. Private
+	 * helpers, nested classes and infrastructure of the services are skipped,
+	 * so the command is attributed to the operation called by the test
+	 */
+	private static boolean isServiceMethod(StackTraceElement frame) {
+		String className = frame.getClassName();
+		if (!className.startsWith(SERVICES_PACKAGE) || className.indexOf('$') >= 0
+		        || INFRASTRUCTURE_CLASSES.contains(className)) {
+			return false;
+		}
+		String key = className + "." + frame.getMethodName();
+		Boolean result = PUBLIC_METHODS.get(key);
+		if (result == null) {
+			result = isPublicMethod(className, frame.getMethodName());
+			PUBLIC_METHODS.put(key, result);
+		}
+		return result;
+	}
+
+	private static boolean isPublicMethod(String className, String methodName) {
+		try {
+			Class<?> type = Class.forName(className, false, InstrumentedDriver.class.getClassLoader());
+			if (!Modifier.isPublic(type.getModifiers())) {
+				return false;
+			}
+			for (Method method : type.getMethods()) {
+				if (method.getName().equals(methodName)) {
+					return true;
+				}
+			}
+		} catch (ClassNotFoundException e) {
+			// class of another loader isn't attributed
+		}
+		return false;
+	}
+
+	private static Object wrapResult(Method method, Object result) {
+		if (result == null) {
+			return null;
+		}
+		if (result instanceof WebElement) {
+			return proxy(result, "element");
+		}
+		if (result instanceof List && method.getName().startsWith("find")) {
+			List<Object> elements = new ArrayList<>();
+			for (Object element : (List<?>) result) {
+				elements.add(element instanceof WebElement ? proxy(element, "element") : element);
+			}
+			return elements;
+		}
+		Class<?> returnType = method.getReturnType();
+		if (returnType.isInterface() && returnType.getName().startsWith(SELENIUM_PACKAGE)
+		        && !(result instanceof WebDriver)) {
+			return proxy(result, simpleName(returnType.getName()).toLowerCase());
+		}
+		if (result instanceof WebDriver) {
+			// target locator switches the same driver to another frame or window
+			return wrap((WebDriver) result);
+		}
+		return result;
+	}
+
+	private static Object[] unwrapArgs(Object[] args) {
+		if (args == null) {
+			return null;
+		}
+		Object[] result = new Object[args.length];
+		for (int i = 0; i < args.length; i++) {
+			result[i] = unwrapDeep(args[i]);
+		}
+		return result;
+	}
+
+	private static Object unwrapDeep(Object arg) {
+		if (arg instanceof Object[]) {
+			return unwrapArgs((Object[]) arg);
+		}
+		if (arg instanceof List) {
+			List<Object> result = new ArrayList<>();
+			for (Object item : (List<?>) arg) {
+				result.add(unwrapDeep(item));
+			}
+			return result;
+		}
+		if (arg instanceof Map) {
+			Map<Object, Object> result = new LinkedHashMap<>();
+			for (Map.Entry<?, ?> entry : ((Map<?, ?>) arg).entrySet()) {
+				result.put(entry.getKey(), unwrapDeep(entry.getValue()));
+			}
+			return result;
+		}
+		if (arg instanceof WrapsElement && !isInstrumented(arg)) {
+			// elements of page components and cached elements wrap the
+			// instrumented element of this driver
+			return unwrapDeep(((WrapsElement) arg).getWrappedElement());
+		}
+		return unwrap(arg);
+	}
+
+	private static Object proxy(Object target, String type) {
+		Set<Class<?>> interfaces = new LinkedHashSet<>();
+		for (Class<?> current = target.getClass(); current != null; current = current.getSuperclass()) {
+			collectInterfaces(current, interfaces);
+		}
+		return Proxy.newProxyInstance(target.getClass().getClassLoader(), interfaces.toArray(new Class<?>[0]),
+		        new InstrumentedDriver(target, type));
+	}
+
+	private static void collectInterfaces(Class<?> type, Set<Class<?>> interfaces) {
+		for (Class<?> item : type.getInterfaces()) {
+			if (interfaces.add(item)) {
+				collectInterfaces(item, interfaces);
+			}
+		}
+	}
+
+	private static boolean isInstrumented(Object object) {
+		return object != null && Proxy.isProxyClass(object.getClass())
+		        && Proxy.getInvocationHandler(object) instanceof InstrumentedDriver;
+	}
+
+	private static String simpleName(String className) {
+		return className.substring(className.lastIndexOf('.') + 1);
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,78 @@
+package com.epam.test.metrics;
+
+/**
+ * Class contains histogram of latencies. Latencies are counted in buckets
+ * which bounds grow exponentially, so percentiles are calculated with error
+ * about 10% for any latency from microseconds to minutes
+ *
+ * @author Natalia Amelina
+ */
+public class LatencyHistogram {
+
+	private static final int BUCKETS_PER_DOUBLING = 4;
+	private static final int BUCKETS = 30 * BUCKETS_PER_DOUBLING;
+
+	private final long[] counts = new long[BUCKETS];
+	private long count;
+	private long totalNanos;
+	private long maxNanos;
+
+	/**
+	 * Method for adding of latency to the histogram
+	 *
+	 * @param nanos
+	 *            - latency in nanoseconds
+	 */
+	public synchronized void record(long nanos) {
+		counts[bucketOf(nanos)]++;
+		count++;
+		totalNanos += nanos;
+		maxNanos = Math.max(maxNanos, nanos);
+	}
+
+	public synchronized long getCount() {
+		return count;
+	}
+
+	public synchronized long getTotalNanos() {
+		return totalNanos;
+	}
+
+	public synchronized long getMaxNanos() {
+		return maxNanos;
+	}
+
+	/**
+	 * Method for get percentile of latencies
+	 *
+	 * @param percent
+	 *            - percent from 0 to 100, e.g. 95 for p95
+	 * @return upper bound of the bucket which contains the percentile, in
+	 *         nanoseconds; 0 if the histogram is empty
+	 */
+	public synchronized long getPercentile(double percent) {
+		if (count == 0) {
+			return 0;
+		}
+		long rank = (long) Math.ceil(count * percent / 100);
+		long seen = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			seen += counts[i];
+			if (seen >= Math.max(rank, 1)) {
+				return Math.min(upperBoundOf(i), maxNanos);
+			}
+		}
+		return maxNanos;
+	}
+
+	private static int bucketOf(long nanos) {
+		double micros = Math.max(nanos / 1000.0, 1);
+		int bucket = (int) Math.ceil(Math.log(micros) / Math.log(2) * BUCKETS_PER_DOUBLING);
+		return Math.min(bucket, BUCKETS - 1);
+	}
+
+	private static long upperBoundOf(int bucket) {
+		return (long) (Math.pow(2, (double) bucket / BUCKETS_PER_DOUBLING) * 1000);
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,76 @@
+package com.epam.test.driver;
+
+/**
+ * Class creates web drivers for browser which is launched on the local
+ * machine. The browser is defined by "browser" system property, headless mode
+ * is switched on by "browser.headless" system property
+ *
+ * @author Natalia Amelina
+ */
+public class LocalDriverFactory implements DriverFactory {
+
+	private static final StructuredLogger LOG = StructuredLogger.getLogger(LocalDriverFactory.class);
+
+	private static final String PROP_BROWSER = "browser";
+	private static final String PROP_HEADLESS = "browser.headless";
+	private static final String BROWSER_FIREFOX = "firefox";
+
+	private final String browser;
+	private final boolean headless;
+
+	/**
+	 * Class constructor. It takes browser settings from system properties
+	 */
+	public LocalDriverFactory() {
+		this(System.getProperty(PROP_BROWSER, "chrome"), Boolean.getBoolean(PROP_HEADLESS));
+	}
+
+	/**
+	 * Class constructor
+	 *
+	 * @param browser
+	 *            - name of the browser: chrome or firefox
+	 * @param headless
+	 *            - true if the browser should be launched without window
+	 */
+	public LocalDriverFactory(String browser, boolean headless) {
+		this.browser = browser;
+		this.headless = headless;
+	}
+
+	/**
+	 * Method creates factory for pool of web drivers. The browser is taken
+	 * from "browser" system property; the browser is headless unless
+	 * "browser.headless" system property is false
+	 *
+	 * @return factory of headless browsers by default
+	 */
+	public static LocalDriverFactory headlessByDefault() {
+		return new LocalDriverFactory(System.getProperty(PROP_BROWSER, "chrome"),
+		        !"false".equalsIgnoreCase(System.getProperty(PROP_HEADLESS)));
+	}
+
+	@Override
+	public WebDriver createDriver() {
+		LOG.debug("Launch browser", "browser", browser, "headless", headless);
+		WebDriver driver;
+		if (BROWSER_FIREFOX.equalsIgnoreCase(browser)) {
+			FirefoxOptions options = new FirefoxOptions();
+			if (headless) {
+				options.addArguments("-headless");
+			}
+			driver = new FirefoxDriver(options);
+		} else {
+			ChromeOptions options = new ChromeOptions();
+			if (headless) {
+				options.addArguments("--headless", "--window-size=1920,1080");
+			}
+			// skip first run dialogs of new profile
+			options.addArguments("--no-first-run", "--no-default-browser-check");
+			driver = new ChromeDriver(options);
+		}
+		LOG.debug("Browser is launched");
+		return driver;
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,117 @@
+package com.epam.test.services.customer;
+
+/**
+ * Class opens Maintenance tab of the customer. It remembers the tab which was
+ * opened by the previous navigation: if the browser is still on this tab, the
+ * tab is reset to the initial state instead of reloading of the customer page
+ *
+ * @author Natalia Amelina
+ */
+public class MaintenanceNavigator {
+
+	private static final StructuredLogger LOG = StructuredLogger.getLogger(MaintenanceNavigator.class);
+
+	private final WebDriver driver;
+	private final MainService mainService;
+	private final ViewCustomerService viewCustomerService;
+	private final MaintenanceService maintenanceService;
+	private final CreditFileInfoService creditFileInfoService;
+	private final DomWait domWait;
+
+	private String openedCustomerUrl;
+
+	/**
+	 * Class constructor
+	 *
+	 * @param driver
+	 *            - web driver which is used by the services
+	 * @param mainService
+	 *            - service for navigation to pages
+	 * @param viewCustomerService
+	 *            - service of the customer page
+	 * @param maintenanceService
+	 *            - service of Maintenance tab
+	 * @param creditFileInfoService
+	 *            - service of Credit File Info page
+	 */
+	public MaintenanceNavigator(WebDriver driver, MainService mainService, ViewCustomerService viewCustomerService,
+	        MaintenanceService maintenanceService, CreditFileInfoService creditFileInfoService) {
+		this.driver = driver;
+		this.mainService = mainService;
+		this.viewCustomerService = viewCustomerService;
+		this.maintenanceService = maintenanceService;
+		this.creditFileInfoService = creditFileInfoService;
+		domWait = new DomWait(driver);
+	}
+
+	/**
+	 * Method for opening of Maintenance tab of the customer
+	 *
+	 * @param customerUrl
+	 *            - URL of the customer page
+	 */
+	public void openMaintenance(String customerUrl) {
+		if (isOnMaintenance(customerUrl) && softReset()) {
+			LOG.info("Maintenance tab is already opened, soft reset is done", "customer", customerUrl);
+			return;
+		}
+		LOG.info("Navigate to Maintenance tab", "customer", customerUrl);
+		openedCustomerUrl = null;
+		ElementCache.of(driver).invalidate();
+		creditFileInfoService.invalidate();
+		mainService.goToPage(customerUrl);
+		viewCustomerService.openMaintenance();
+		openedCustomerUrl = customerUrl;
+	}
+
+	/**
+	 * Method forgets the opened tab. The next navigation reloads the customer
+	 * page
+	 */
+	public void reset() {
+		openedCustomerUrl = null;
+		creditFileInfoService.invalidate();
+	}
+
+	private boolean isOnMaintenance(String customerUrl) {
+		if (openedCustomerUrl == null || !openedCustomerUrl.equals(customerUrl)) {
+			LOG.debug("Maintenance tab wasn't opened by previous navigation", "customer", customerUrl);
+			return false;
+		}
+		String currentUrl = driver.getCurrentUrl();
+		if (currentUrl == null || !currentUrl.startsWith(customerUrl)) {
+			LOG.info("Browser has left the customer page", "url", currentUrl);
+			return false;
+		}
+		return true;
+	}
+
+	private boolean softReset() {
+		if (creditFileInfoService.isSaveDisplayed()) {
+			LOG.debug("Close opened Credit File Info dialog");
+			creditFileInfoService.cancel();
+			if (!creditFileInfoService.waitForClosed()) {
+				LOG.info("Credit File Info dialog isn't closed, soft reset isn't possible");
+				return false;
+			}
+		}
+		// View All table is usually collapsed, so the check shouldn't wait for
+		// its Print button
+		if (domWait.checkNow(new DomWait.Condition() {
+			@Override
+			public boolean check() {
+				return maintenanceService.isPrintCreditDisplayed();
+			}
+		})) {
+			// Maintenance tab has no control to collapse View All table
+			LOG.info("View All table of Credit File Info is expanded, soft reset isn't possible");
+			return false;
+		}
+		if (!maintenanceService.isAddNewCreditDisplayed()) {
+			LOG.info("Credit File Info block isn't displayed, soft reset isn't possible");
+			return false;
+		}
+		return true;
+	}
+
+}
\ No newline at end of file
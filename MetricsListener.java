@@ -0,0 +1,49 @@
+package com.epam.test.listeners;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Listener attributes web driver commands to the running test method and
+ * writes metrics of the commands to the file when the suite is finished. The
+ * file is target/metrics/webdriver-&lt;suite&gt;.csv by default, the
+ * directory can be changed with metrics.dir system property
+ *
+ * @author Natalia Amelina
+ */
+public class MetricsListener implements IInvokedMethodListener, ISuiteListener {
+
+	private static final StructuredLogger LOG = StructuredLogger.getLogger(MetricsListener.class);
+
+	private static final String PROP_METRICS_DIR = "metrics.dir";
+	private static final String DEFAULT_METRICS_DIR = "target/metrics";
+
+	@Override
+	public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+		ITestNGMethod testMethod = method.getTestMethod();
+		CommandMetrics.inst().setCurrentTest(testMethod.getRealClass().getSimpleName() + "." + testMethod.getMethodName());
+	}
+
+	@Override
+	public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+		CommandMetrics.inst().setCurrentTest(null);
+	}
+
+	@Override
+	public void onStart(ISuite suite) {
+		CommandMetrics.inst().reset();
+	}
+
+	@Override
+	public void onFinish(ISuite suite) {
+		File file = new File(System.getProperty(PROP_METRICS_DIR, DEFAULT_METRICS_DIR),
+		        "webdriver-" + suite.getName().replaceAll("\\W+", "_") + ".csv");
+		try {
+			CommandMetrics.inst().export(file);
+			LOG.info("Web driver metrics are written", "file", file.getAbsolutePath());
+		} catch (IOException e) {
+			LOG.warn("Web driver metrics aren't written", "error", e.getMessage());
+		}
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,292 @@
+package com.epam.test.services;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Class keeps authenticated sessions of the web application. The user is
+ * logged in through UI once per JVM; cookies and web storage of the session
+ * are injected into every next web driver of this user. The session is
+ * considered expired after session.max.age.minutes system property (30 by
+ * default) or after the earliest expiry of its cookies, whichever comes
+ * first; the expired session and the session which isn't accepted by the
+ * application anymore are replaced by new log in through UI
+ *
+ * @author Natalia Amelina
+ */
+public final class SessionCache {
+
+	private static final StructuredLogger LOG = StructuredLogger.getLogger(SessionCache.class);
+
+	private static final SessionCache INSTANCE = new SessionCache();
+
+	private static final String PROP_MAX_AGE = "session.max.age.minutes";
+	private static final int DEFAULT_MAX_AGE = 30;
+
+	private static final String READ_STORAGE = ""
+	        + "function copy(storage) {"
+	        + "  var result = {};"
+	        + "  for (var i = 0; i < storage.length; i++) {"
+	        + "    var key = storage.key(i);"
+	        + "    result[key] = storage.getItem(key);"
+	        + "  }"
+	        + "  return result;"
+	        + "}"
+	        + "return { local: copy(window.localStorage), session: copy(window.sessionStorage) };";
+
+	private static final String WRITE_STORAGE = ""
+	        + "function fill(storage, values) {"
+	        + "  storage.clear();"
+	        + "  for (var key in values) { storage.setItem(key, values[key]); }"
+	        + "}"
+	        + "fill(window.localStorage, arguments[0]);"
+	        + "fill(window.sessionStorage, arguments[1]);";
+
+	/**
+	 * Requests the opened page again and returns URL of the response after
+	 * redirects, so the page isn't reloaded; the application redirects the
+	 * request to login page if it doesn't accept the session
+	 */
+	private static final String PROBE_SESSION = ""
+	        + "var request = new XMLHttpRequest();"
+	        + "request.open('GET', window.location.href, false);"
+	        + "request.send();"
+	        + "return request.responseURL;";
+
+	private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+	private final Map<String, Object> locks = new ConcurrentHashMap<>();
+
+	private SessionCache() {
+	}
+
+	/**
+	 * Method for get instance of the cache
+	 *
+	 * @return the only instance of the cache
+	 */
+	public static SessionCache inst() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Method for log in to the web application. If the user has cached session
+	 * it is injected into the driver, otherwise the user is logged in through
+	 * UI and the session is cached. The expired session is replaced by new one.
+	 * The cached session is injected without locking, so drivers of the same
+	 * user are logged in in parallel; only log in through UI is done by one
+	 * thread at once
+	 *
+	 * @param driver
+	 *            - web driver which need to log in
+	 * @param loginUrl
+	 *            - URL of login page
+	 * @param user
+	 *            - user to log in
+	 * @param mainService
+	 *            - main service of the driver which checks that dashboard is
+	 *            opened
+	 * @return true if dashboard is displayed after log in; false otherwise
+	 */
+	public boolean login(WebDriver driver, String loginUrl, UserBO user, MainService mainService) {
+		String key = user.getLogin();
+		Session session = validSession(key);
+		if (session != null && restore(driver, loginUrl, key, session, mainService)) {
+			return true;
+		}
+
+		synchronized (lockOf(key)) {
+			Session current = validSession(key);
+			if (current != null && current != session) {
+				// another thread has logged in while the session was restored
+				if (restore(driver, loginUrl, key, current, mainService)) {
+					return true;
+				}
+			}
+
+			LOG.debug("Log in through UI", "user", key);
+			new LoginService(driver).login(loginUrl, user);
+			boolean result = mainService.isDashboard();
+			if (result) {
+				sessions.put(key, Session.capture(driver, maxAgeMillis()));
+				LOG.debug("Session is cached", "user", key);
+			}
+			return result;
+		}
+	}
+
+	/**
+	 * Method for checking that the driver still has valid session of the
+	 * user, e.g. before the driver which was logged in by previous test is
+	 * reused. The driver should have cookies of the cached session, and the
+	 * application should accept them: the opened page is requested in
+	 * background without reloading, and redirect to login page means that
+	 * the session is ended by the application. Such session is removed from
+	 * the cache, so the next log in is done through UI
+	 *
+	 * @param driver
+	 *            - web driver which was logged in
+	 * @param loginUrl
+	 *            - URL of login page
+	 * @param user
+	 *            - user of the driver
+	 * @return true if the session of the user is accepted by the application;
+	 *         false if the driver needs to log in again
+	 */
+	public boolean isLoggedIn(WebDriver driver, String loginUrl, UserBO user) {
+		String key = user.getLogin();
+		Session session = validSession(key);
+		if (session == null || !session.isPresentIn(driver)) {
+			LOG.debug("Web driver has no valid session", "user", key);
+			return false;
+		}
+		if (!session.isAcceptedBy(driver, loginUrl)) {
+			LOG.info("Cached session isn't accepted by the application, log in again", "user", key);
+			sessions.remove(key, session);
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Method for removing of cached session of the user. The next log in of
+	 * the user is done through UI
+	 *
+	 * @param user
+	 *            - user whose session is removed
+	 */
+	public void invalidate(UserBO user) {
+		LOG.debug("Remove cached session", "user", user.getLogin());
+		sessions.remove(user.getLogin());
+	}
+
+	private boolean restore(WebDriver driver, String loginUrl, String key, Session session,
+	        MainService mainService) {
+		LOG.debug("Restore cached session", "user", key);
+		session.restore(driver, loginUrl);
+		if (mainService.isDashboard()) {
+			LOG.debug("Cached session is restored", "user", key);
+			return true;
+		}
+		LOG.info("Cached session is expired, log in again", "user", key);
+		sessions.remove(key, session);
+		return false;
+	}
+
+	private Session validSession(String key) {
+		Session session = sessions.get(key);
+		if (session != null && session.isExpired()) {
+			LOG.info("Cached session has reached its maximal age", "user", key);
+			sessions.remove(key, session);
+			return null;
+		}
+		return session;
+	}
+
+	private static long maxAgeMillis() {
+		return TimeUnit.MINUTES.toMillis(Integer.getInteger(PROP_MAX_AGE, DEFAULT_MAX_AGE));
+	}
+
+	private Object lockOf(String key) {
+		Object lock = locks.get(key);
+		if (lock == null) {
+			Object created = new Object();
+			lock = locks.putIfAbsent(key, created);
+			if (lock == null) {
+				lock = created;
+			}
+		}
+		return lock;
+	}
+
+	/**
+	 * Class contains cookies and web storage of authenticated session
+	 */
+	private static final class Session {
+
+		private final Set<Cookie> cookies;
+		private final Map<String, Object> localStorage;
+		private final Map<String, Object> sessionStorage;
+		private final long expiresAt;
+
+		private Session(Set<Cookie> cookies, Map<String, Object> localStorage, Map<String, Object> sessionStorage,
+		        long maxAgeMillis) {
+			this.cookies = Collections.unmodifiableSet(new HashSet<>(cookies));
+			this.localStorage = localStorage;
+			this.sessionStorage = sessionStorage;
+			long expiry = System.currentTimeMillis() + maxAgeMillis;
+			for (Cookie cookie : cookies) {
+				if (cookie.getExpiry() != null) {
+					expiry = Math.min(expiry, cookie.getExpiry().getTime());
+				}
+			}
+			expiresAt = expiry;
+		}
+
+		@SuppressWarnings("unchecked")
+		static Session capture(WebDriver driver, long maxAgeMillis) {
+			Map<String, Map<String, Object>> storage = (Map<String, Map<String, Object>>) ((JavascriptExecutor) driver)
+			        .executeScript(READ_STORAGE);
+			return new Session(driver.manage().getCookies(), storage.get("local"), storage.get("session"),
+			        maxAgeMillis);
+		}
+
+		boolean isExpired() {
+			return System.currentTimeMillis() >= expiresAt;
+		}
+
+		/**
+		 * Method for checking that the driver has all cookies of the session
+		 * and none of them has expired
+		 */
+		boolean isPresentIn(WebDriver driver) {
+			Date now = new Date();
+			Set<String> present = new HashSet<>();
+			for (Cookie cookie : driver.manage().getCookies()) {
+				if (cookie.getExpiry() == null || cookie.getExpiry().after(now)) {
+					present.add(cookie.getName());
+				}
+			}
+			for (Cookie cookie : cookies) {
+				if (!present.contains(cookie.getName())) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		/**
+		 * Method for checking that the application doesn't redirect the
+		 * opened page of the driver to login page
+		 */
+		boolean isAcceptedBy(WebDriver driver, String loginUrl) {
+			String currentUrl = driver.getCurrentUrl();
+			if (currentUrl == null || !currentUrl.startsWith("http") || currentUrl.startsWith(loginUrl)) {
+				return false;
+			}
+			try {
+				String responseUrl = (String) ((JavascriptExecutor) driver).executeScript(PROBE_SESSION);
+				return responseUrl != null && !responseUrl.isEmpty() && !responseUrl.startsWith(loginUrl);
+			} catch (WebDriverException e) {
+				return false;
+			}
+		}
+
+		void restore(WebDriver driver, String loginUrl) {
+			// cookies and storage can be set only for the opened domain
+			driver.get(loginUrl);
+			driver.manage().deleteAllCookies();
+			for (Cookie cookie : cookies) {
+				driver.manage().addCookie(cookie);
+			}
+			((JavascriptExecutor) driver).executeScript(WRITE_STORAGE, localStorage, sessionStorage);
+			driver.get(loginUrl);
+		}
+
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,140 @@
+package com.epam.test.services;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Class runs commands of one browser session in background. Commands of the
+ * session are run one after another in the order of submission, so the web
+ * driver is never used by two threads at once, while commands of different
+ * sessions are run in parallel. The caller thread doesn't wait for the
+ * commands and can drive several sessions at once
+ * <p>
+ * Every command is run by its own virtual thread if the JVM supports them
+ * (Java 21 and later), otherwise by the shared pool of daemon threads. The
+ * name of the running test is passed to the command thread, so the web driver
+ * commands are still attributed to the test by {@link CommandMetrics}, and
+ * their trace is handed over to the test thread by {@link TraceRecorder}
+ *
+ * @author Natalia Amelina
+ */
+public final class SessionExecutor {
+
+	private static final StructuredLogger LOG = StructuredLogger.getLogger(SessionExecutor.class);
+
+	private static final Executor EXECUTOR = createExecutor();
+
+	private static final Map<WebDriver, SessionExecutor> SESSIONS = Collections
+	        .synchronizedMap(new WeakHashMap<WebDriver, SessionExecutor>());
+
+	private final Executor executor;
+	private CompletableFuture<Void> tail = CompletableFuture.completedFuture(null);
+
+	/**
+	 * Class constructor
+	 *
+	 * @param executor
+	 *            - executor of the commands
+	 */
+	public SessionExecutor(Executor executor) {
+		this.executor = executor;
+	}
+
+	/**
+	 * Method for get the executor of browser session of web driver
+	 *
+	 * @param driver
+	 *            - web driver of the session
+	 * @return executor of the session
+	 */
+	public static SessionExecutor of(WebDriver driver) {
+		synchronized (SESSIONS) {
+			SessionExecutor result = SESSIONS.get(driver);
+			if (result == null) {
+				result = new SessionExecutor(EXECUTOR);
+				SESSIONS.put(driver, result);
+			}
+			return result;
+		}
+	}
+
+	/**
+	 * Method submits the command of the session. The command is run after all
+	 * previously submitted commands of the session are finished, even if they
+	 * have failed
+	 *
+	 * @param task
+	 *            - command to run
+	 * @return future which is completed by the result of the command or by its
+	 *         exception
+	 */
+	public synchronized <T> CompletableFuture<T> submit(final Callable<T> task) {
+		final String test = CommandMetrics.inst().getCurrentTest();
+		final Thread owner = Thread.currentThread();
+		CompletableFuture<T> result = tail.thenApplyAsync(new Function<Void, T>() {
+			@Override
+			public T apply(Void previous) {
+				CommandMetrics.inst().setCurrentTest(test);
+				try {
+					return task.call();
+				} catch (RuntimeException e) {
+					throw e;
+				} catch (Exception e) {
+					throw new CompletionException(e);
+				} finally {
+					CommandMetrics.inst().setCurrentTest(null);
+					TraceRecorder.inst().detach(owner);
+				}
+			}
+		}, executor);
+		// the failed command doesn't stop the next commands of the session
+		tail = result.handle(new BiFunction<T, Throwable, Void>() {
+			@Override
+			public Void apply(T value, Throwable failure) {
+				return null;
+			}
+		});
+		return result;
+	}
+
+	/**
+	 * Method for get the future which is completed when all submitted commands
+	 * of the session are finished
+	 *
+	 * @return future of the last submitted command; it is never completed
+	 *         exceptionally
+	 */
+	public synchronized CompletableFuture<Void> idle() {
+		return tail;
+	}
+
+	private static Executor createExecutor() {
+		try {
+			ExecutorService result = (ExecutorService) Executors.class
+			        .getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+			LOG.debug("Commands of browser sessions are run by virtual threads");
+			return result;
+		} catch (ReflectiveOperationException e) {
+			LOG.debug("Virtual threads aren't supported, commands of browser sessions are run by thread pool");
+			return Executors.newCachedThreadPool(new ThreadFactory() {
+				@Override
+				public Thread newThread(Runnable task) {
+					Thread thread = new Thread(task, "session-command");
+					thread.setDaemon(true);
+					return thread;
+				}
+			});
+		}
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,227 @@
+package com.epam.test.listeners;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Listener runs the part of the suite which belongs to the worker. The suite
+ * is split into shard.count shards by durations of the previous runs and the
+ * worker runs the shard with shard.index number (from 0). All workers of one
+ * run get the same shard.run.id, e.g. number of CI build. Durations of the
+ * methods are stored to shard.durations.dir directory and results of the
+ * worker are written to the directory of the run in shard.report.dir
+ * directory; the worker which finishes last merges results of all workers
+ * into one report
+ *
+ * @author Natalia Amelina
+ */
+public class ShardListener implements IMethodInterceptor, ITestListener, ISuiteListener {
+
+	private static final StructuredLogger LOG = StructuredLogger.getLogger(ShardListener.class);
+
+	private static final String PROP_SHARD_COUNT = "shard.count";
+	private static final String PROP_SHARD_INDEX = "shard.index";
+	private static final String PROP_RUN_ID = "shard.run.id";
+	private static final String PROP_DURATIONS_DIR = "shard.durations.dir";
+	private static final String PROP_REPORT_DIR = "shard.report.dir";
+	private static final String DEFAULT_DURATIONS_DIR = "test-durations";
+	private static final String DEFAULT_REPORT_DIR = "target/shards";
+	private static final long DEFAULT_METHOD_MILLIS = 60000;
+	// the run which isn't split has no other workers to agree with
+	private static final String LOCAL_RUN_ID = "local-" + System.currentTimeMillis();
+
+	private DurationStore durations;
+	private final Queue<String> results = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * Method for get count of shards of the suite
+	 *
+	 * @return count of workers which run the suite; 1 if the suite isn't
+	 *         split
+	 */
+	public static int getShardCount() {
+		return Math.max(Integer.getInteger(PROP_SHARD_COUNT, 1), 1);
+	}
+
+	/**
+	 * Method for get shard of the current worker
+	 *
+	 * @return number of the shard from 0
+	 */
+	public static int getShardIndex() {
+		int index = Integer.getInteger(PROP_SHARD_INDEX, 0);
+		if (index < 0 || index >= getShardCount()) {
+			throw new IllegalArgumentException("Shard index should be from 0 to " + (getShardCount() - 1) + ": "
+			        + index);
+		}
+		return index;
+	}
+
+	/**
+	 * Method for get ID of the current run
+	 *
+	 * @return ID of the run which is shared by all its workers
+	 * @throws IllegalStateException
+	 *             if the suite is split but the ID of the run isn't defined
+	 */
+	public static String getRunId() {
+		String runId = System.getProperty(PROP_RUN_ID);
+		if (runId != null && !runId.trim().isEmpty()) {
+			return runId.trim();
+		}
+		if (getShardCount() > 1) {
+			throw new IllegalStateException(PROP_RUN_ID + " should be defined for all workers of the split suite");
+		}
+		return LOCAL_RUN_ID;
+	}
+
+	@Override
+	public void onStart(ISuite suite) {
+		LOG.info("Durations are read", "suite", suite.getName(), "shard", getShardIndex(), "shards", getShardCount());
+		durations();
+	}
+
+	@Override
+	public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+		int count = getShardCount();
+		if (count == 1) {
+			return methods;
+		}
+
+		Map<Class<?>, TestDependencyGraph> graphs = new LinkedHashMap<>();
+		for (IMethodInstance instance : methods) {
+			Class<?> testClass = instance.getMethod().getRealClass();
+			if (!graphs.containsKey(testClass)) {
+				graphs.put(testClass, new TestDependencyGraph(testClass));
+			}
+		}
+		List<Set<String>> groups = new ArrayList<>();
+		for (TestDependencyGraph graph : graphs.values()) {
+			for (Set<String> methods : graph.getGroups()) {
+				Set<String> group = new LinkedHashSet<>();
+				for (String method : methods) {
+					group.add(graph.getTestClass().getName() + "." + method);
+				}
+				groups.add(group);
+			}
+		}
+
+		List<ShardPlanner.Shard> shards = new ShardPlanner(count).plan(groups, durations(), DEFAULT_METHOD_MILLIS);
+		for (ShardPlanner.Shard shard : shards) {
+			LOG.info("Plan of shard", "shard", shard);
+		}
+		Set<String> own = shards.get(getShardIndex()).getMethods();
+		List<IMethodInstance> result = new ArrayList<>();
+		for (IMethodInstance instance : methods) {
+			if (own.contains(nameOf(instance.getMethod()))) {
+				result.add(instance);
+			}
+		}
+		LOG.info("Methods of the shard", "shard", getShardIndex(), "methods", result.size(), "total", methods.size());
+		return result;
+	}
+
+	@Override
+	public void onTestSuccess(ITestResult result) {
+		record(result, "success");
+	}
+
+	@Override
+	public void onTestFailure(ITestResult result) {
+		record(result, "failure");
+	}
+
+	@Override
+	public void onTestSkipped(ITestResult result) {
+		record(result, "skip");
+	}
+
+	@Override
+	public void onTestFailedButWithinSuccessPercentage(ITestResult result) {
+		record(result, "success");
+	}
+
+	@Override
+	public void onTestStart(ITestResult result) {
+		// durations are recorded when the test is finished
+	}
+
+	@Override
+	public void onStart(ITestContext context) {
+		// results are collected for the whole suite
+	}
+
+	@Override
+	public void onFinish(ITestContext context) {
+		// results are written when the suite is finished
+	}
+
+	@Override
+	public void onFinish(ISuite suite) {
+		String worker = "shard-" + getShardIndex();
+		try {
+			durations().save(worker);
+		} catch (IOException e) {
+			LOG.warn("Durations of test methods aren't saved", "error", e.getMessage());
+		}
+
+		// results of the previous runs aren't merged with this one
+		File reportDir = new File(System.getProperty(PROP_REPORT_DIR, DEFAULT_REPORT_DIR), getRunId());
+		try {
+			writeResults(new File(reportDir, ShardReport.RESULTS_PREFIX + worker + ShardReport.RESULTS_SUFFIX));
+			ShardReport report = new ShardReport(reportDir);
+			if (report.getWorkerCount() >= getShardCount()) {
+				File merged = report.write();
+				LOG.info("Results of all shards are merged", "file", merged.getAbsolutePath());
+			}
+		} catch (IOException e) {
+			LOG.warn("Results of the shard aren't written", "error", e.getMessage());
+		}
+	}
+
+	private void record(ITestResult result, String status) {
+		long millis = Math.max(result.getEndMillis() - result.getStartMillis(), 0);
+		String method = nameOf(result.getMethod());
+		if (!"skip".equals(status)) {
+			durations().record(method, millis);
+		}
+		results.add(String.format("%s,%s,%d,%d", method, status, millis, getShardIndex()));
+	}
+
+	private void writeResults(File file) throws IOException {
+		File dir = file.getAbsoluteFile().getParentFile();
+		if (!dir.isDirectory() && !dir.mkdirs()) {
+			throw new IOException("Directory isn't created: " + dir);
+		}
+		try (PrintWriter writer = new PrintWriter(file, StandardCharsets.UTF_8.name())) {
+			writer.println(ShardReport.RESULTS_HEADER);
+			for (String line : results) {
+				writer.println(line);
+			}
+		}
+	}
+
+	private synchronized DurationStore durations() {
+		if (durations == null) {
+			// the interceptor may be called before the suite listener
+			durations = new DurationStore(new File(System.getProperty(PROP_DURATIONS_DIR, DEFAULT_DURATIONS_DIR)),
+			        getRunId());
+		}
+		return durations;
+	}
+
+	private static String nameOf(ITestNGMethod method) {
+		return method.getRealClass().getName() + "." + method.getMethodName();
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,134 @@
+package com.epam.test.listeners;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Class splits test methods into shards with balanced duration. Methods
+ * which are connected by dependencies are kept in one shard. The longest
+ * groups are placed first, each one to the shard with the least duration, so
+ * all workers compute the same plan from the same durations
+ *
+ * @author Natalia Amelina
+ */
+public class ShardPlanner {
+
+	private final int count;
+	private final List<Shard> shards = new ArrayList<>();
+
+	/**
+	 * Class constructor
+	 *
+	 * @param count
+	 *            - count of shards
+	 */
+	public ShardPlanner(int count) {
+		if (count < 1) {
+			throw new IllegalArgumentException("Count of shards should be positive: " + count);
+		}
+		this.count = count;
+	}
+
+	/**
+	 * Method splits groups of test methods into shards
+	 *
+	 * @param groups
+	 *            - groups of methods which should be run by one worker
+	 * @param durations
+	 *            - store with durations of methods
+	 * @param defaultMillis
+	 *            - duration of method which wasn't run before
+	 * @return shards, every one contains names of its methods
+	 */
+	public List<Shard> plan(List<Set<String>> groups, DurationStore durations, long defaultMillis) {
+		List<Group> sorted = new ArrayList<>();
+		for (Set<String> methods : groups) {
+			long millis = 0;
+			for (String method : methods) {
+				millis += durations.get(method, defaultMillis);
+			}
+			sorted.add(new Group(new TreeSet<>(methods), millis));
+		}
+		Collections.sort(sorted, new Comparator<Group>() {
+			@Override
+			public int compare(Group first, Group second) {
+				int result = Long.compare(second.millis, first.millis);
+				// ties are broken by names, so every worker gets the same plan
+				return result != 0 ? result : first.methods.first().compareTo(second.methods.first());
+			}
+		});
+
+		shards.clear();
+		for (int i = 0; i < count; i++) {
+			shards.add(new Shard(i));
+		}
+		for (Group group : sorted) {
+			Shard lightest = shards.get(0);
+			for (Shard shard : shards) {
+				if (shard.millis < lightest.millis) {
+					lightest = shard;
+				}
+			}
+			lightest.methods.addAll(group.methods);
+			lightest.millis += group.millis;
+		}
+		return Collections.unmodifiableList(shards);
+	}
+
+	/**
+	 * Class contains group of methods and its duration
+	 */
+	private static final class Group {
+
+		private final TreeSet<String> methods;
+		private final long millis;
+
+		Group(TreeSet<String> methods, long millis) {
+			this.methods = methods;
+			this.millis = millis;
+		}
+
+	}
+
+	/**
+	 * Class contains methods of one shard
+	 */
+	public static final class Shard {
+
+		private final int index;
+		private final Set<String> methods = new TreeSet<>();
+		private long millis;
+
+		Shard(int index) {
+			this.index = index;
+		}
+
+		public int getIndex() {
+			return index;
+		}
+
+		public Set<String> getMethods() {
+			return Collections.unmodifiableSet(methods);
+		}
+
+		/**
+		 * Method for get expected duration of the shard
+		 *
+		 * @return sum of durations of its methods in milliseconds
+		 */
+		public long getMillis() {
+			return millis;
+		}
+
+		@Override
+		public String toString() {
+			return "shard " + index + " (" + millis + " ms): " + methods;
+		}
+
+	}
+
+}
\ No newline at end of file
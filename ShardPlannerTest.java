@@ -0,0 +1,72 @@
+package com.epam.test.listeners;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Class for testing of splitting of test methods into shards. Durations are
+ * read from empty store, so every method has the default duration
+ *
+ * @author Natalia Amelina
+ */
+public class ShardPlannerTest {
+
+	private static final long DEFAULT_MILLIS = 100;
+
+	private DurationStore durations;
+
+	@BeforeMethod
+	public void createStore() throws IOException {
+		File dir = Files.createTempDirectory("durations").toFile();
+		dir.deleteOnExit();
+		durations = new DurationStore(dir, "current");
+	}
+
+	@Test(description = "Methods with equal durations get the same plan in any order")
+	public void checkDeterministicPlanTest() {
+		List<Set<String>> groups = new ArrayList<>();
+		for (String method : Arrays.asList("a", "b", "c", "d")) {
+			groups.add(Collections.singleton(method));
+		}
+		List<Set<String>> reversed = new ArrayList<>(groups);
+		Collections.reverse(reversed);
+
+		List<Set<String>> plan = methodsOf(new ShardPlanner(2).plan(groups, durations, DEFAULT_MILLIS));
+		Assert.assertEquals(plan, Arrays.asList(setOf("a", "c"), setOf("b", "d")),
+		        "Ties are broken by names of methods");
+		Assert.assertEquals(methodsOf(new ShardPlanner(2).plan(reversed, durations, DEFAULT_MILLIS)), plan,
+		        "Order of groups doesn't change the plan");
+	}
+
+	@Test(description = "Connected methods are kept in one shard")
+	public void checkGroupsTest() {
+		List<Set<String>> groups = Arrays.asList(Collections.singleton("c"), setOf("a", "b"),
+		        Collections.singleton("d"));
+
+		List<ShardPlanner.Shard> shards = new ShardPlanner(2).plan(groups, durations, DEFAULT_MILLIS);
+		Assert.assertEquals(methodsOf(shards), Arrays.asList(setOf("a", "b"), setOf("c", "d")),
+		        "The longest group is placed first and isn't split");
+		Assert.assertEquals(shards.get(0).getMillis(), 2 * DEFAULT_MILLIS, "Durations of the group are summed");
+		Assert.assertEquals(shards.get(1).getMillis(), 2 * DEFAULT_MILLIS, "Shards are balanced");
+	}
+
+	private static List<Set<String>> methodsOf(List<ShardPlanner.Shard> shards) {
+		List<Set<String>> result = new ArrayList<>();
+		for (ShardPlanner.Shard shard : shards) {
+			result.add(shard.getMethods());
+		}
+		return result;
+	}
+
+	private static Set<String> setOf(String... methods) {
+		return new HashSet<>(Arrays.asList(methods));
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,132 @@
+package com.epam.test.listeners;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Class merges results of all shards into one report. The report contains
+ * results of all test methods and summary of every shard: count of methods,
+ * failures and duration; the longest shard defines duration of the suite
+ *
+ * @author Natalia Amelina
+ */
+public class ShardReport {
+
+	static final String RESULTS_PREFIX = "results-";
+	static final String RESULTS_SUFFIX = ".csv";
+	static final String RESULTS_HEADER = "method,status,millis,shard";
+
+	private static final String MERGED_FILE = "merged-report.csv";
+
+	private final File dir;
+	private final List<File> files = new ArrayList<>();
+
+	/**
+	 * Class constructor. It finds result files of the shards
+	 *
+	 * @param dir
+	 *            - directory with result files
+	 */
+	public ShardReport(File dir) {
+		this.dir = dir;
+		File[] found = dir.listFiles();
+		if (found != null) {
+			Arrays.sort(found);
+			for (File file : found) {
+				if (file.getName().startsWith(RESULTS_PREFIX) && file.getName().endsWith(RESULTS_SUFFIX)) {
+					files.add(file);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Method for get count of shards which have written their results
+	 *
+	 * @return count of result files
+	 */
+	public int getWorkerCount() {
+		return files.size();
+	}
+
+	/**
+	 * Method writes merged report of all shards
+	 *
+	 * @return file of the report
+	 * @throws IOException
+	 *             if a result file can't be read or the report can't be
+	 *             written
+	 */
+	public File write() throws IOException {
+		List<String> lines = new ArrayList<>();
+		Map<String, long[]> shards = new TreeMap<>();
+		for (File file : files) {
+			try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file),
+			        StandardCharsets.UTF_8))) {
+				reader.readLine();
+				for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+					String[] fields = line.split(",");
+					if (fields.length < 4) {
+						continue;
+					}
+					lines.add(line);
+					long[] summary = shards.get(fields[3]);
+					if (summary == null) {
+						summary = new long[3];
+						shards.put(fields[3], summary);
+					}
+					summary[0]++;
+					summary[1] += "failure".equals(fields[1]) ? 1 : 0;
+					summary[2] += Long.parseLong(fields[2]);
+				}
+			}
+		}
+
+		File merged = new File(dir, MERGED_FILE);
+		long longest = 0;
+		try (PrintWriter writer = new PrintWriter(merged, StandardCharsets.UTF_8.name())) {
+			writer.println(RESULTS_HEADER);
+			for (String line : lines) {
+				writer.println(line);
+			}
+			writer.println();
+			writer.println("shard,methods,failures,millis");
+			for (Map.Entry<String, long[]> entry : shards.entrySet()) {
+				long[] summary = entry.getValue();
+				writer.println(String.format("%s,%d,%d,%d", entry.getKey(), summary[0], summary[1], summary[2]));
+				longest = Math.max(longest, summary[2]);
+			}
+			writer.println(String.format("longest shard,,,%d", longest));
+		}
+		return merged;
+	}
+
+	/**
+	 * Method merges results of the shards which were run separately
+	 *
+	 * @param args
+	 *            - directory with result files of the run, e.g.
+	 *            target/shards/&lt;run id&gt;
+	 * @throws IOException
+	 *             if the report can't be written
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args.length == 0) {
+			throw new IllegalArgumentException("Directory with result files of the run isn't defined");
+		}
+		File dir = new File(args[0]);
+		File merged = new ShardReport(dir).write();
+		System.out.println("Merged report: " + merged.getAbsolutePath());
+	}
+
+}
\ No newline at end of file
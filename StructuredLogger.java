@@ -0,0 +1,291 @@
+package com.epam.test.utils;
+
+import java.util.function.Supplier;
+
+/**
+ * Class is a facade of the logger for services and business objects. A
+ * message is built only if its level is enabled: variable parts are passed as
+ * key/value fields instead of concatenation with the message, and expensive
+ * messages are passed as suppliers. Messages are written in key=value form,
+ * e.g. msg="Current value of Remarks field" value="Some remarks"
+ *
+ * @author Natalia Amelina
+ */
+public final class StructuredLogger {
+
+	private final org.apache.log4j.Logger logger;
+
+	private StructuredLogger(org.apache.log4j.Logger logger) {
+		this.logger = logger;
+	}
+
+	/**
+	 * Method for get logger of the class
+	 *
+	 * @param type
+	 *            - class which writes messages
+	 * @return logger of the class
+	 */
+	public static StructuredLogger getLogger(Class<?> type) {
+		return new StructuredLogger(org.apache.log4j.Logger.getLogger(type));
+	}
+
+	public boolean isDebugEnabled() {
+		return logger.isDebugEnabled();
+	}
+
+	/**
+	 * Method for writing of debug message
+	 *
+	 * @param message
+	 *            - constant text of the message
+	 */
+	public void debug(String message) {
+		if (logger.isDebugEnabled()) {
+			logger.debug(format(message).toString());
+		}
+	}
+
+	/**
+	 * Method for writing of debug message with one field
+	 *
+	 * @param message
+	 *            - constant text of the message
+	 * @param key
+	 *            - name of the field
+	 * @param value
+	 *            - value of the field
+	 */
+	public void debug(String message, String key, Object value) {
+		if (logger.isDebugEnabled()) {
+			logger.debug(append(format(message), key, value).toString());
+		}
+	}
+
+	/**
+	 * Method for writing of debug message with two fields
+	 *
+	 * @param message
+	 *            - constant text of the message
+	 * @param key1
+	 *            - name of the first field
+	 * @param value1
+	 *            - value of the first field
+	 * @param key2
+	 *            - name of the second field
+	 * @param value2
+	 *            - value of the second field
+	 */
+	public void debug(String message, String key1, Object value1, String key2, Object value2) {
+		if (logger.isDebugEnabled()) {
+			logger.debug(append(append(format(message), key1, value1), key2, value2).toString());
+		}
+	}
+
+	/**
+	 * Method for writing of debug message which is expensive to build
+	 *
+	 * @param message
+	 *            - supplier of the message; it is called only if debug level
+	 *            is enabled
+	 */
+	public void debug(Supplier<String> message) {
+		if (logger.isDebugEnabled()) {
+			logger.debug(format(message.get()).toString());
+		}
+	}
+
+	/**
+	 * Method for writing of info message
+	 *
+	 * @param message
+	 *            - constant text of the message
+	 */
+	public void info(String message) {
+		if (logger.isInfoEnabled()) {
+			logger.info(format(message).toString());
+		}
+	}
+
+	/**
+	 * Method for writing of info message with one field
+	 *
+	 * @param message
+	 *            - constant text of the message
+	 * @param key
+	 *            - name of the field
+	 * @param value
+	 *            - value of the field
+	 */
+	public void info(String message, String key, Object value) {
+		if (logger.isInfoEnabled()) {
+			logger.info(append(format(message), key, value).toString());
+		}
+	}
+
+	/**
+	 * Method for writing of info message with two fields
+	 *
+	 * @param message
+	 *            - constant text of the message
+	 * @param key1
+	 *            - name of the first field
+	 * @param value1
+	 *            - value of the first field
+	 * @param key2
+	 *            - name of the second field
+	 * @param value2
+	 *            - value of the second field
+	 */
+	public void info(String message, String key1, Object value1, String key2, Object value2) {
+		if (logger.isInfoEnabled()) {
+			logger.info(append(append(format(message), key1, value1), key2, value2).toString());
+		}
+	}
+
+	/**
+	 * Method for writing of info message with three fields
+	 *
+	 * @param message
+	 *            - constant text of the message
+	 * @param key1
+	 *            - name of the first field
+	 * @param value1
+	 *            - value of the first field
+	 * @param key2
+	 *            - name of the second field
+	 * @param value2
+	 *            - value of the second field
+	 * @param key3
+	 *            - name of the third field
+	 * @param value3
+	 *            - value of the third field
+	 */
+	public void info(String message, String key1, Object value1, String key2, Object value2, String key3,
+	        Object value3) {
+		if (logger.isInfoEnabled()) {
+			logger.info(append(append(append(format(message), key1, value1), key2, value2), key3, value3).toString());
+		}
+	}
+
+	/**
+	 * Method for writing of warning
+	 *
+	 * @param message
+	 *            - constant text of the message
+	 */
+	public void warn(String message) {
+		if (logger.isEnabledFor(org.apache.log4j.Level.WARN)) {
+			logger.warn(format(message).toString());
+		}
+	}
+
+	/**
+	 * Method for writing of warning with one field
+	 *
+	 * @param message
+	 *            - constant text of the message
+	 * @param key
+	 *            - name of the field
+	 * @param value
+	 *            - value of the field
+	 */
+	public void warn(String message, String key, Object value) {
+		if (logger.isEnabledFor(org.apache.log4j.Level.WARN)) {
+			logger.warn(append(format(message), key, value).toString());
+		}
+	}
+
+	/**
+	 * Method for writing of warning with two fields
+	 *
+	 * @param message
+	 *            - constant text of the message
+	 * @param key1
+	 *            - name of the first field
+	 * @param value1
+	 *            - value of the first field
+	 * @param key2
+	 *            - name of the second field
+	 * @param value2
+	 *            - value of the second field
+	 */
+	public void warn(String message, String key1, Object value1, String key2, Object value2) {
+		if (logger.isEnabledFor(org.apache.log4j.Level.WARN)) {
+			logger.warn(append(append(format(message), key1, value1), key2, value2).toString());
+		}
+	}
+
+	/**
+	 * Method for writing of warning with three fields
+	 *
+	 * @param message
+	 *            - constant text of the message
+	 * @param key1
+	 *            - name of the first field
+	 * @param value1
+	 *            - value of the first field
+	 * @param key2
+	 *            - name of the second field
+	 * @param value2
+	 *            - value of the second field
+	 * @param key3
+	 *            - name of the third field
+	 * @param value3
+	 *            - value of the third field
+	 */
+	public void warn(String message, String key1, Object value1, String key2, Object value2, String key3,
+	        Object value3) {
+		if (logger.isEnabledFor(org.apache.log4j.Level.WARN)) {
+			logger.warn(append(append(append(format(message), key1, value1), key2, value2), key3, value3).toString());
+		}
+	}
+
+	/**
+	 * Method for writing of error with two fields
+	 *
+	 * @param message
+	 *            - constant text of the message
+	 * @param key1
+	 *            - name of the first field
+	 * @param value1
+	 *            - value of the first field
+	 * @param key2
+	 *            - name of the second field
+	 * @param value2
+	 *            - value of the second field
+	 */
+	public void error(String message, String key1, Object value1, String key2, Object value2) {
+		if (logger.isEnabledFor(org.apache.log4j.Level.ERROR)) {
+			logger.error(append(append(format(message), key1, value1), key2, value2).toString());
+		}
+	}
+
+	private static StringBuilder format(String message) {
+		return quote(new StringBuilder("msg="), message);
+	}
+
+	private static StringBuilder append(StringBuilder builder, String key, Object value) {
+		builder.append(' ').append(key).append('=');
+		if (value == null || value instanceof Number || value instanceof Boolean) {
+			return builder.append(value);
+		}
+		return quote(builder, String.valueOf(value));
+	}
+
+	private static StringBuilder quote(StringBuilder builder, String value) {
+		builder.append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char ch = value.charAt(i);
+			if (ch == '"' || ch == '\\') {
+				builder.append('\\');
+			} else if (ch == '\n') {
+				builder.append("\\n");
+				continue;
+			}
+			builder.append(ch);
+		}
+		return builder.append('"');
+	}
+
+}
\ No newline at end of file
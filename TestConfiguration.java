@@ -0,0 +1,301 @@
+package com.epam.test.utils;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeSet;
+
+/**
+ * Class contains configuration of the test environment which is read from
+ * *.properties file. Every file is read once per JVM; values are parsed when
+ * the file is read: lists are split by comma, numbers are converted to
+ * integers, dates of the default format are converted to dates. The
+ * configuration is immutable, so it is shared by parallel test threads
+ * without synchronization
+ *
+ * @author Natalia Amelina
+ */
+public final class TestConfiguration {
+
+	private static final String LIST_SEPARATOR = ",";
+	private static final String DEFAULT_DATE_FORMAT = "MM/dd/yyyy";
+	private static final DateTimeFormatter DEFAULT_DATE_FORMATTER = DateTimeFormatter.ofPattern(DEFAULT_DATE_FORMAT);
+
+	private static final Map<String, TestConfiguration> LOADED = new HashMap<>();
+
+	private final String fileName;
+	private final Map<String, String> values;
+	private final Map<String, List<String>> lists;
+	private final Map<String, Integer> numbers;
+	private final Map<String, LocalDate> dates;
+	private LoadPropertiesUtil properties;
+
+	private TestConfiguration(String fileName, Properties source) {
+		this.fileName = fileName;
+		Map<String, String> parsedValues = new HashMap<>();
+		Map<String, List<String>> parsedLists = new HashMap<>();
+		Map<String, Integer> parsedNumbers = new HashMap<>();
+		Map<String, LocalDate> parsedDates = new HashMap<>();
+		for (String key : source.stringPropertyNames()) {
+			String value = source.getProperty(key).trim();
+			parsedValues.put(key, value);
+			parsedLists.put(key, split(value));
+			try {
+				parsedNumbers.put(key, Integer.valueOf(value));
+			} catch (NumberFormatException e) {
+				// the value isn't a number
+			}
+			try {
+				parsedDates.put(key, LocalDate.parse(value, DEFAULT_DATE_FORMATTER));
+			} catch (DateTimeParseException e) {
+				// the value isn't a date
+			}
+		}
+		values = Collections.unmodifiableMap(parsedValues);
+		lists = Collections.unmodifiableMap(parsedLists);
+		numbers = Collections.unmodifiableMap(parsedNumbers);
+		dates = Collections.unmodifiableMap(parsedDates);
+	}
+
+	/**
+	 * Method for get configuration of the environment. The file is read at the
+	 * first call, next calls return the same configuration
+	 *
+	 * @param fileName
+	 *            - name of *.properties file in the class path or path to it
+	 * @return configuration of the environment
+	 * @throws IllegalArgumentException
+	 *             if the file isn't found or can't be read
+	 */
+	public static TestConfiguration load(String fileName) {
+		synchronized (LOADED) {
+			TestConfiguration result = LOADED.get(fileName);
+			if (result == null) {
+				result = new TestConfiguration(fileName, read(fileName));
+				LOADED.put(fileName, result);
+			}
+			return result;
+		}
+	}
+
+	/**
+	 * Method for checking that all required keys are defined. All missing keys
+	 * are reported at once
+	 *
+	 * @param keys
+	 *            - required keys
+	 * @return this configuration
+	 * @throws IllegalStateException
+	 *             if any key isn't defined or its value is empty
+	 */
+	public TestConfiguration requireKeys(String... keys) {
+		TreeSet<String> missing = new TreeSet<>();
+		for (String key : keys) {
+			String value = values.get(key);
+			if (value == null || value.isEmpty()) {
+				missing.add(key);
+			}
+		}
+		if (!missing.isEmpty()) {
+			throw new IllegalStateException("Keys aren't defined in " + fileName + ": " + missing);
+		}
+		return this;
+	}
+
+	/**
+	 * Method for get value of the key
+	 *
+	 * @param key
+	 *            - key of the value
+	 * @return value of the key
+	 * @throws IllegalArgumentException
+	 *             if the key isn't defined
+	 */
+	public String getString(String key) {
+		String result = values.get(key);
+		if (result == null) {
+			throw new IllegalArgumentException("Key isn't defined in " + fileName + ": " + key);
+		}
+		return result;
+	}
+
+	/**
+	 * Method for get value of the key
+	 *
+	 * @param key
+	 *            - key of the value
+	 * @param defaultValue
+	 *            - value which is returned if the key isn't defined
+	 * @return value of the key
+	 */
+	public String getString(String key, String defaultValue) {
+		String result = values.get(key);
+		return result == null ? defaultValue : result;
+	}
+
+	/**
+	 * Method for get list of values of the key
+	 *
+	 * @param key
+	 *            - key of the values
+	 * @param defaultValues
+	 *            - values which are returned if the key isn't defined or empty
+	 * @return unmodifiable list of values
+	 */
+	public List<String> getList(String key, String... defaultValues) {
+		List<String> result = lists.get(key);
+		return result == null || result.isEmpty() ? Collections.unmodifiableList(Arrays.asList(defaultValues))
+		        : result;
+	}
+
+	/**
+	 * Method for get integer value of the key
+	 *
+	 * @param key
+	 *            - key of the value
+	 * @return value of the key
+	 * @throws IllegalArgumentException
+	 *             if the key isn't defined or its value isn't integer
+	 */
+	public int getInt(String key) {
+		Integer result = numbers.get(key);
+		if (result == null) {
+			throw new IllegalArgumentException("Key isn't integer in " + fileName + ": " + key + "="
+			        + values.get(key));
+		}
+		return result;
+	}
+
+	/**
+	 * Method for get list of integer values of the key
+	 *
+	 * @param key
+	 *            - key of the values
+	 * @param defaultValues
+	 *            - values which are returned if the key isn't defined or empty
+	 * @return unmodifiable list of values
+	 * @throws IllegalArgumentException
+	 *             if any value isn't integer
+	 */
+	public List<Integer> getIntList(String key, Integer... defaultValues) {
+		List<String> items = lists.get(key);
+		if (items == null || items.isEmpty()) {
+			return Collections.unmodifiableList(Arrays.asList(defaultValues));
+		}
+		List<Integer> result = new ArrayList<>();
+		for (String item : items) {
+			try {
+				result.add(Integer.valueOf(item));
+			} catch (NumberFormatException e) {
+				throw new IllegalArgumentException("Value of " + key + " isn't integer in " + fileName + ": " + item,
+				        e);
+			}
+		}
+		return Collections.unmodifiableList(result);
+	}
+
+	/**
+	 * Method for get date value of the key in MM/dd/yyyy format
+	 *
+	 * @param key
+	 *            - key of the value
+	 * @return value of the key
+	 * @throws IllegalArgumentException
+	 *             if the key isn't defined or its value isn't date of the
+	 *             default format
+	 */
+	public LocalDate getDate(String key) {
+		LocalDate result = dates.get(key);
+		if (result == null) {
+			throw new IllegalArgumentException("Key isn't date of " + DEFAULT_DATE_FORMAT + " format in " + fileName
+			        + ": " + key + "=" + values.get(key));
+		}
+		return result;
+	}
+
+	/**
+	 * Method for get date value of the key
+	 *
+	 * @param key
+	 *            - key of the value
+	 * @param format
+	 *            - format of the date, e.g. yyyy-MM-dd
+	 * @return value of the key
+	 * @throws IllegalArgumentException
+	 *             if the key isn't defined or its value isn't date of the
+	 *             format
+	 */
+	public LocalDate getDate(String key, String format) {
+		String value = getString(key);
+		try {
+			return LocalDate.parse(value, DateTimeFormatter.ofPattern(format));
+		} catch (DateTimeParseException e) {
+			throw new IllegalArgumentException("Key isn't date of " + format + " format in " + fileName + ": " + key
+			        + "=" + value, e);
+		}
+	}
+
+	/**
+	 * Method for get properties of the same file for services which take
+	 * {@link LoadPropertiesUtil}, e.g. MainService and CommandToDataBase. Tests
+	 * and their utilities read values through the configuration. The
+	 * properties are created once for the configuration on the first call
+	 *
+	 * @return properties of the file
+	 */
+	public synchronized LoadPropertiesUtil getProperties() {
+		if (properties == null) {
+			properties = new LoadPropertiesUtil(fileName);
+		}
+		return properties;
+	}
+
+	@Override
+	public String toString() {
+		return fileName + " " + values.keySet();
+	}
+
+	private static List<String> split(String value) {
+		List<String> result = new ArrayList<>();
+		for (String item : value.split(LIST_SEPARATOR)) {
+			if (!item.trim().isEmpty()) {
+				result.add(item.trim());
+			}
+		}
+		return Collections.unmodifiableList(result);
+	}
+
+	private static Properties read(String fileName) {
+		Properties result = new Properties();
+		InputStream input = TestConfiguration.class.getClassLoader().getResourceAsStream(fileName);
+		try {
+			if (input == null) {
+				File file = new File(fileName);
+				if (!file.isFile()) {
+					throw new IllegalArgumentException("Properties file isn't found: " + fileName);
+				}
+				input = new FileInputStream(file);
+			}
+			try (InputStreamReader reader = new InputStreamReader(input, StandardCharsets.UTF_8)) {
+				result.load(reader);
+			}
+		} catch (IOException e) {
+			throw new IllegalArgumentException("Properties file isn't read: " + fileName, e);
+		}
+		return result;
+	}
+
+}
\ No newline at end of file
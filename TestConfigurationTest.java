@@ -0,0 +1,74 @@
+package com.epam.test.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * Class for testing of parsing of the configuration. The properties are
+ * written to temporary file which is read from the file system
+ *
+ * @author Natalia Amelina
+ */
+public class TestConfigurationTest {
+
+	private static final String PROPERTIES = ""
+	        + "url.customer.pool = first, second,, third \n"
+	        + "shard.sizes = 1,2, 3\n"
+	        + "shard.broken.sizes = 1,two\n"
+	        + "date.default = 01/15/2027\n"
+	        + "date.iso = 2027-01-15\n"
+	        + "empty.list = \n";
+
+	private TestConfiguration configuration;
+
+	@BeforeMethod
+	public void loadConfiguration() throws IOException {
+		File file = File.createTempFile("configuration", ".properties");
+		file.deleteOnExit();
+		Files.write(file.toPath(), PROPERTIES.getBytes(StandardCharsets.UTF_8));
+		configuration = TestConfiguration.load(file.getAbsolutePath());
+	}
+
+	@Test(description = "Lists are split by comma without empty items")
+	public void checkListTest() {
+		Assert.assertEquals(configuration.getList("url.customer.pool"), Arrays.asList("first", "second", "third"),
+		        "Items are trimmed and empty items are skipped");
+		Assert.assertEquals(configuration.getList("empty.list", "default"), Collections.singletonList("default"),
+		        "Default values are returned for empty list");
+		Assert.assertEquals(configuration.getList("absent.list"), Collections.<String> emptyList(),
+		        "Absent key has empty list");
+	}
+
+	@Test(description = "Integer lists are parsed and invalid items are reported")
+	public void checkIntListTest() {
+		Assert.assertEquals(configuration.getIntList("shard.sizes"), Arrays.asList(1, 2, 3), "Integers are parsed");
+		Assert.assertEquals(configuration.getIntList("absent.sizes", 4), Collections.singletonList(4),
+		        "Default values are returned for absent key");
+		try {
+			configuration.getIntList("shard.broken.sizes");
+			Assert.fail("List with not integer value is parsed");
+		} catch (IllegalArgumentException e) {
+			Assert.assertTrue(e.getMessage().contains("two"), "Error names the invalid item: " + e.getMessage());
+		}
+	}
+
+	@Test(description = "Dates are parsed in the default and in the given format")
+	public void checkDateTest() {
+		LocalDate expected = LocalDate.of(2027, 1, 15);
+		Assert.assertEquals(configuration.getDate("date.default"), expected, "Date of the default format is parsed");
+		Assert.assertEquals(configuration.getDate("date.iso", "yyyy-MM-dd"), expected,
+		        "Date of the given format is parsed");
+		try {
+			configuration.getDate("date.iso");
+			Assert.fail("Date of another format is parsed by the default format");
+		} catch (IllegalArgumentException e) {
+			Assert.assertTrue(e.getMessage().contains("date.iso"), "Error names the key: " + e.getMessage());
+		}
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,224 @@
+package com.epam.test.listeners;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Class contains graph of dependencies between test methods of one test
+ * class. The graph is built from dependsOnMethods attribute of @Test
+ * annotation and checked for dependencies on nonexistent methods and for
+ * cycles
+ *
+ * @author Natalia Amelina
+ */
+public class TestDependencyGraph {
+
+	private final Class<?> testClass;
+	private final Map<String, Set<String>> dependencies = new LinkedHashMap<>();
+	private final List<String> errors = new ArrayList<>();
+
+	/**
+	 * Class constructor. It builds the graph of the test class
+	 *
+	 * @param testClass
+	 *            - class with test methods
+	 */
+	public TestDependencyGraph(Class<?> testClass) {
+		this.testClass = testClass;
+
+		Map<String, String[]> declared = new LinkedHashMap<>();
+		for (Method method : testClass.getMethods()) {
+			Test test = method.getAnnotation(Test.class);
+			if (test != null) {
+				declared.put(method.getName(), test.dependsOnMethods());
+			}
+		}
+
+		for (Map.Entry<String, String[]> entry : declared.entrySet()) {
+			Set<String> resolved = new LinkedHashSet<>();
+			for (String name : entry.getValue()) {
+				Set<String> matched = resolve(name, testClass.getName(), declared.keySet());
+				if (matched.isEmpty()) {
+					errors.add(String.format("%s.%s() depends on nonexistent method \"%s\"",
+					        testClass.getSimpleName(), entry.getKey(), name));
+				}
+				resolved.addAll(matched);
+			}
+			dependencies.put(entry.getKey(), resolved);
+		}
+		findCycles();
+	}
+
+	/**
+	 * Method for get test class of the graph
+	 *
+	 * @return test class
+	 */
+	public Class<?> getTestClass() {
+		return testClass;
+	}
+
+	/**
+	 * Method for checking of the graph
+	 *
+	 * @return true if all dependencies exist and there are no cycles; false
+	 *         otherwise
+	 */
+	public boolean isValid() {
+		return errors.isEmpty();
+	}
+
+	/**
+	 * Method for get description of errors in the graph
+	 *
+	 * @return list of errors; empty list if the graph is valid
+	 */
+	public List<String> getErrors() {
+		return Collections.unmodifiableList(errors);
+	}
+
+	/**
+	 * Method for get methods which the test method depends on directly
+	 *
+	 * @param method
+	 *            - name of test method
+	 * @return names of methods; empty set if the method is independent
+	 */
+	public Set<String> getDependencies(String method) {
+		Set<String> result = dependencies.get(method);
+		return result == null ? Collections.<String> emptySet() : Collections.unmodifiableSet(result);
+	}
+
+	/**
+	 * Method for get chains of test methods, i.e. groups of at least two
+	 * methods which are connected by dependencies. Methods of a chain share
+	 * data; the chains are sorted by size, the largest one is the first
+	 *
+	 * @return list of chains of method names; independent methods aren't
+	 *         included
+	 */
+	public List<Set<String>> getChains() {
+		List<Set<String>> result = new ArrayList<>();
+		for (Set<String> group : getGroups()) {
+			if (group.size() > 1) {
+				result.add(group);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Method for get groups of test methods which are connected by
+	 * dependencies. Every independent method is a group of its own. Methods of
+	 * different groups don't share data and can be run concurrently; the groups
+	 * are sorted by size, the largest one is the first
+	 *
+	 * @return list of groups of method names
+	 */
+	public List<Set<String>> getGroups() {
+		Map<String, String> roots = new HashMap<>();
+		for (String method : dependencies.keySet()) {
+			roots.put(method, method);
+		}
+		for (Map.Entry<String, Set<String>> entry : dependencies.entrySet()) {
+			for (String dependency : entry.getValue()) {
+				roots.put(rootOf(roots, entry.getKey()), rootOf(roots, dependency));
+			}
+		}
+
+		Map<String, Set<String>> chains = new LinkedHashMap<>();
+		for (String method : dependencies.keySet()) {
+			String root = rootOf(roots, method);
+			Set<String> chain = chains.get(root);
+			if (chain == null) {
+				chain = new LinkedHashSet<>();
+				chains.put(root, chain);
+			}
+			chain.add(method);
+		}
+
+		List<Set<String>> result = new ArrayList<>(chains.values());
+		Collections.sort(result, new Comparator<Set<String>>() {
+			@Override
+			public int compare(Set<String> first, Set<String> second) {
+				return second.size() - first.size();
+			}
+		});
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		return testClass.getSimpleName() + " " + getChains();
+	}
+
+	/**
+	 * Method resolves dependsOnMethods value as TestNG does it: the value is
+	 * regular expression which is matched with the method name or with the
+	 * method name qualified by the class name
+	 */
+	private static Set<String> resolve(String name, String className, Set<String> methods) {
+		if (methods.contains(name)) {
+			return Collections.singleton(name);
+		}
+		Set<String> result = new LinkedHashSet<>();
+		try {
+			Pattern pattern = Pattern.compile(name);
+			for (String method : methods) {
+				if (pattern.matcher(method).matches() || pattern.matcher(className + "." + method).matches()) {
+					result.add(method);
+				}
+			}
+		} catch (PatternSyntaxException e) {
+			// invalid expression matches nothing and is reported as dangling
+		}
+		return result;
+	}
+
+	private static String rootOf(Map<String, String> roots, String method) {
+		String root = method;
+		while (!roots.get(root).equals(root)) {
+			root = roots.get(root);
+		}
+		return root;
+	}
+
+	private void findCycles() {
+		Set<String> finished = new LinkedHashSet<>();
+		for (String method : dependencies.keySet()) {
+			visit(method, new ArrayList<String>(), finished);
+		}
+	}
+
+	private void visit(String method, List<String> path, Set<String> finished) {
+		if (finished.contains(method)) {
+			return;
+		}
+		int index = path.indexOf(method);
+		if (index >= 0) {
+			List<String> cycle = new ArrayList<>(path.subList(index, path.size()));
+			cycle.add(method);
+			errors.add(String.format("%s has cyclic dependency %s", testClass.getSimpleName(),
+			        Arrays.toString(cycle.toArray())));
+			return;
+		}
+		path.add(method);
+		for (String dependency : dependencies.get(method)) {
+			visit(dependency, path, finished);
+		}
+		path.remove(path.size() - 1);
+		finished.add(method);
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,150 @@
+package com.epam.test.listeners;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Class for testing of the graph of dependencies between test methods. The
+ * graphs are built from the nested classes, so the tests don't run any test
+ * method
+ *
+ * @author Natalia Amelina
+ */
+public class TestDependencyGraphTest {
+
+	@Test(description = "Only connected methods form chains, every method forms a group")
+	public void checkChainsTest() {
+		TestDependencyGraph graph = new TestDependencyGraph(ChainedSample.class);
+
+		Assert.assertTrue(graph.isValid(), "Graph is valid: " + graph.getErrors());
+		List<Set<String>> chains = graph.getChains();
+		Assert.assertEquals(chains.size(), 1, "Independent methods aren't chains: " + chains);
+		Assert.assertEquals(chains.get(0), new HashSet<>(Arrays.asList("create", "edit", "view")),
+		        "Methods connected by names and expressions form one chain");
+		Assert.assertEquals(graph.getGroups().size(), 3, "Every independent method is a group of its own");
+		Assert.assertEquals(graph.getDependencies("view"), new HashSet<>(Arrays.asList("create")),
+		        "Regular expression is matched with the method name");
+		Assert.assertEquals(graph.getDependencies("single"), new HashSet<String>(),
+		        "Independent method has no dependencies");
+	}
+
+	@Test(description = "Cyclic dependencies are reported")
+	public void checkCycleTest() {
+		TestDependencyGraph graph = new TestDependencyGraph(CyclicSample.class);
+
+		Assert.assertFalse(graph.isValid(), "Graph with cycle is invalid");
+		Assert.assertEquals(graph.getErrors().size(), 1, "Cycle is reported once: " + graph.getErrors());
+		Assert.assertTrue(graph.getErrors().get(0).contains("cyclic dependency"),
+		        "Error describes the cycle: " + graph.getErrors());
+	}
+
+	@Test(description = "Method which depends on itself is reported as cycle")
+	public void checkSelfDependencyTest() {
+		TestDependencyGraph graph = new TestDependencyGraph(SelfDependentSample.class);
+
+		Assert.assertFalse(graph.isValid(), "Graph with self dependency is invalid");
+		Assert.assertEquals(graph.getErrors(), Arrays.asList(
+		        "SelfDependentSample has cyclic dependency [loop, loop]"), "Self dependency is reported");
+	}
+
+	@Test(description = "Regular expression which matches no method is reported")
+	public void checkUnmatchedExpressionTest() {
+		TestDependencyGraph graph = new TestDependencyGraph(UnmatchedSample.class);
+
+		Assert.assertFalse(graph.isValid(), "Graph with unmatched expression is invalid");
+		Assert.assertEquals(graph.getErrors(), Arrays.asList(
+		        "UnmatchedSample.edit() depends on nonexistent method \"del.*\""), "Unmatched expression is reported");
+	}
+
+	@Test(description = "Dependencies on nonexistent methods are reported")
+	public void checkMissingDependencyTest() {
+		TestDependencyGraph graph = new TestDependencyGraph(MissingSample.class);
+
+		Assert.assertFalse(graph.isValid(), "Graph with missing dependency is invalid");
+		Assert.assertEquals(graph.getErrors(), Arrays.asList(
+		        "MissingSample.edit() depends on nonexistent method \"absent\""), "Missing method is reported");
+		Assert.assertTrue(graph.getChains().isEmpty(), "Method with missing dependency isn't a chain");
+	}
+
+	/**
+	 * Class with one chain and two independent methods
+	 */
+	private static class ChainedSample {
+
+		@Test
+		public void create() {
+		}
+
+		@Test(dependsOnMethods = "create")
+		public void edit() {
+		}
+
+		@Test(dependsOnMethods = "cr.*")
+		public void view() {
+		}
+
+		@Test
+		public void single() {
+		}
+
+		@Test
+		public void another() {
+		}
+
+	}
+
+	/**
+	 * Class with methods which depend on each other
+	 */
+	private static class CyclicSample {
+
+		@Test(dependsOnMethods = "second")
+		public void first() {
+		}
+
+		@Test(dependsOnMethods = "first")
+		public void second() {
+		}
+
+	}
+
+	/**
+	 * Class with method which depends on itself
+	 */
+	private static class SelfDependentSample {
+
+		@Test(dependsOnMethods = "loop")
+		public void loop() {
+		}
+
+	}
+
+	/**
+	 * Class with dependency on expression which matches no method
+	 */
+	private static class UnmatchedSample {
+
+		@Test
+		public void create() {
+		}
+
+		@Test(dependsOnMethods = "del.*")
+		public void edit() {
+		}
+
+	}
+
+	/**
+	 * Class with dependency on nonexistent method
+	 */
+	private static class MissingSample {
+
+		@Test(dependsOnMethods = "absent")
+		public void edit() {
+		}
+
+	}
+
+}
\ No newline at end of file
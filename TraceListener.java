@@ -0,0 +1,111 @@
+package com.epam.test.listeners;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Listener writes timeline of every test method to the file in Chrome
+ * trace-event format, which can be opened in chrome://tracing or Perfetto.
+ * The trace of the test contains spans of its before methods, the test
+ * method, service calls and web driver commands; after methods of the test
+ * are added to the trace of the next test of the thread. Trace of the whole
+ * suite with all threads is written when the suite is finished. Traces are
+ * written to target/traces unless trace.dir system property is set and only
+ * if webdriver.trace system property is true
+ *
+ * @author Natalia Amelina
+ */
+public class TraceListener implements IInvokedMethodListener, ISuiteListener {
+
+	private static final StructuredLogger LOG = StructuredLogger.getLogger(TraceListener.class);
+
+	private static final String PROP_TRACE_DIR = "trace.dir";
+	private static final String DEFAULT_TRACE_DIR = "target/traces";
+
+	private final Map<Thread, String> finishedTests = new ConcurrentHashMap<>();
+
+	@Override
+	public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+		if (!TraceRecorder.inst().isEnabled()) {
+			return;
+		}
+		if (!method.getTestMethod().isAfterMethodConfiguration()) {
+			writeFinishedTest(Thread.currentThread());
+		}
+		TraceRecorder.inst().begin(nameOf(method), method.isTestMethod() ? "test" : "configuration");
+	}
+
+	@Override
+	public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+		if (!TraceRecorder.inst().isEnabled()) {
+			return;
+		}
+		TraceRecorder.inst().end(statusOf(testResult));
+		if (method.isTestMethod()) {
+			finishedTests.put(Thread.currentThread(), nameOf(method));
+		}
+	}
+
+	@Override
+	public void onStart(ISuite suite) {
+		// traces are started by test methods
+	}
+
+	@Override
+	public void onFinish(ISuite suite) {
+		if (!TraceRecorder.inst().isEnabled()) {
+			return;
+		}
+		// the last tests of the threads are written when all threads are done
+		for (Thread thread : finishedTests.keySet()) {
+			writeFinishedTest(thread);
+		}
+		File file = new File(traceDir(), "suite-" + suite.getName().replaceAll("\\W+", "_") + ".json");
+		try {
+			TraceRecorder.inst().writeSuite(file);
+			LOG.info("Trace of the suite is written", "file", file.getAbsolutePath());
+		} catch (IOException e) {
+			LOG.warn("Trace of the suite isn't written", "error", e.getMessage());
+		}
+	}
+
+	private void writeFinishedTest(Thread thread) {
+		String test = finishedTests.remove(thread);
+		if (test == null) {
+			return;
+		}
+		try {
+			File file = TraceRecorder.inst().write(thread, traceDir(), test);
+			if (file != null) {
+				LOG.debug("Trace of the test is written", "test", test, "file", file);
+			}
+		} catch (IOException e) {
+			LOG.warn("Trace of the test isn't written", "test", test, "error", e.getMessage());
+		}
+	}
+
+	private static File traceDir() {
+		return new File(System.getProperty(PROP_TRACE_DIR, DEFAULT_TRACE_DIR));
+	}
+
+	private static String nameOf(IInvokedMethod method) {
+		ITestNGMethod testMethod = method.getTestMethod();
+		return testMethod.getRealClass().getSimpleName() + "." + testMethod.getMethodName();
+	}
+
+	private static String statusOf(ITestResult testResult) {
+		switch (testResult.getStatus()) {
+		case ITestResult.SUCCESS:
+			return "success";
+		case ITestResult.FAILURE:
+			return "failure";
+		case ITestResult.SKIP:
+			return "skip";
+		default:
+			return "unknown";
+		}
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,350 @@
+package com.epam.test.metrics;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Class records timeline of test methods, service calls and web driver
+ * commands in Chrome trace-event format. Every thread has its own track, so
+ * tests which are run concurrently are shown side by side. Service calls
+ * aren't intercepted: a service span lasts from the first to the last
+ * command which is sent from the same call of the service method, so
+ * consecutive calls of the method from the same line are shown as one span.
+ * Commands which are run in background for the test have tracks of their
+ * own threads, and the tracks are written together with the test which
+ * submitted the commands. Recording is enabled with webdriver.trace system property
+ *
+ * @author Natalia Amelina
+ */
+public final class TraceRecorder {
+
+	private static final TraceRecorder INSTANCE = new TraceRecorder();
+
+	private static final String PROP_TRACE = "webdriver.trace";
+	private static final String KEY_SEPARATOR = "@";
+
+	private final boolean enabled = Boolean.getBoolean(PROP_TRACE);
+	private final long origin = System.nanoTime();
+	private final Map<Thread, ThreadTrace> threads = new ConcurrentHashMap<>();
+	private final Map<String, AtomicInteger> fileNames = new ConcurrentHashMap<>();
+	private final List<String> suiteEvents = Collections.synchronizedList(new ArrayList<String>());
+
+	private TraceRecorder() {
+	}
+
+	/**
+	 * Method for get instance of recorder
+	 *
+	 * @return the only instance of recorder
+	 */
+	public static TraceRecorder inst() {
+		return INSTANCE;
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Method starts span of test or configuration method on the current thread
+	 *
+	 * @param name
+	 *            - name of the span
+	 * @param category
+	 *            - category of the span, e.g. test or configuration
+	 */
+	public void begin(String name, String category) {
+		if (enabled) {
+			threadTrace().begin(name, category, System.nanoTime());
+		}
+	}
+
+	/**
+	 * Method ends the last started span of the current thread
+	 *
+	 * @param status
+	 *            - status of the method which is added to the span
+	 */
+	public void end(String status) {
+		if (enabled) {
+			threadTrace().end(status, System.nanoTime());
+		}
+	}
+
+	/**
+	 * Method for adding of web driver command to the current thread
+	 *
+	 * @param services
+	 *            - calls of service methods which sent the command, the
+	 *            outermost call first; a call is "Service.method@caller line"
+	 * @param command
+	 *            - name of the command
+	 * @param startNanos
+	 *            - start time of the command from {@link System#nanoTime()}
+	 * @param nanos
+	 *            - latency of the command in nanoseconds
+	 */
+	public void command(List<String> services, String command, long startNanos, long nanos) {
+		if (enabled) {
+			threadTrace().command(services, command, startNanos, nanos);
+		}
+	}
+
+	/**
+	 * Method finishes recording of the current thread which has run commands
+	 * in background, e.g. for {@link SessionExecutor}. Events of the thread
+	 * are moved to the thread which submitted the commands, so they are
+	 * written to the trace of its test on the track of the current thread,
+	 * and the current thread isn't kept by the recorder
+	 *
+	 * @param owner
+	 *            - thread which submitted the commands
+	 */
+	public void detach(Thread owner) {
+		if (!enabled) {
+			return;
+		}
+		ThreadTrace trace = threads.remove(Thread.currentThread());
+		if (trace == null) {
+			return;
+		}
+		List<String> events = trace.drain(System.nanoTime());
+		if (!events.isEmpty()) {
+			events.add(0, trace.getThreadName());
+			traceOf(owner).adopt(events);
+		}
+	}
+
+	/**
+	 * Method writes events of the thread which are recorded since the previous
+	 * writing to the trace file of the test. Events are also kept for the
+	 * trace of the suite. Events of other thread can be written only when the
+	 * thread doesn't run tests anymore
+	 *
+	 * @param thread
+	 *            - thread which has run the test
+	 * @param dir
+	 *            - directory for trace files
+	 * @param test
+	 *            - name of the test; a number is added to the name of the file
+	 *            for the next invocations of the test
+	 * @return written file; null if recording is disabled or there are no
+	 *         events
+	 * @throws IOException
+	 *             if the file can't be written
+	 */
+	public File write(Thread thread, File dir, String test) throws IOException {
+		ThreadTrace trace = threads.get(thread);
+		if (!enabled || trace == null) {
+			return null;
+		}
+		List<String> events = trace.drain(System.nanoTime());
+		if (events.isEmpty()) {
+			return null;
+		}
+		suiteEvents.addAll(events);
+
+		AtomicInteger invocations = fileNames.get(test);
+		if (invocations == null) {
+			AtomicInteger created = new AtomicInteger();
+			invocations = fileNames.putIfAbsent(test, created);
+			if (invocations == null) {
+				invocations = created;
+			}
+		}
+		int invocation = invocations.incrementAndGet();
+		String fileName = test.replaceAll("[^\\w.-]+", "_") + (invocation > 1 ? "-" + invocation : "") + ".json";
+		File file = new File(dir, fileName);
+		List<String> result = new ArrayList<>();
+		result.add(trace.getThreadName());
+		result.addAll(events);
+		writeEvents(file, result);
+		return file;
+	}
+
+	/**
+	 * Method writes events of all threads which are written to test traces to
+	 * one trace file
+	 *
+	 * @param file
+	 *            - trace file of the suite
+	 * @throws IOException
+	 *             if the file can't be written
+	 */
+	public void writeSuite(File file) throws IOException {
+		if (!enabled) {
+			return;
+		}
+		List<String> result = new ArrayList<>();
+		for (ThreadTrace trace : threads.values()) {
+			result.add(trace.getThreadName());
+		}
+		synchronized (suiteEvents) {
+			result.addAll(suiteEvents);
+			suiteEvents.clear();
+		}
+		writeEvents(file, result);
+	}
+
+	private ThreadTrace threadTrace() {
+		return traceOf(Thread.currentThread());
+	}
+
+	private ThreadTrace traceOf(Thread thread) {
+		ThreadTrace result = threads.get(thread);
+		if (result == null) {
+			ThreadTrace created = new ThreadTrace(thread);
+			result = threads.putIfAbsent(thread, created);
+			if (result == null) {
+				result = created;
+			}
+		}
+		return result;
+	}
+
+	private long micros(long nanos) {
+		return (nanos - origin) / 1000;
+	}
+
+	private static void writeEvents(File file, List<String> events) throws IOException {
+		File dir = file.getAbsoluteFile().getParentFile();
+		if (!dir.isDirectory() && !dir.mkdirs()) {
+			throw new IOException("Directory isn't created: " + dir);
+		}
+		try (PrintWriter writer = new PrintWriter(file, StandardCharsets.UTF_8.name())) {
+			writer.println("{\"displayTimeUnit\":\"ms\",\"traceEvents\":[");
+			for (int i = 0; i < events.size(); i++) {
+				writer.print(events.get(i));
+				writer.println(i < events.size() - 1 ? "," : "");
+			}
+			writer.print("]}");
+		}
+	}
+
+	private static String quote(String value) {
+		StringBuilder result = new StringBuilder("\"");
+		for (char ch : value.toCharArray()) {
+			if (ch == '"' || ch == '\\') {
+				result.append('\\').append(ch);
+			} else if (ch < ' ') {
+				result.append(String.format("\\u%04x", (int) ch));
+			} else {
+				result.append(ch);
+			}
+		}
+		return result.append('"').toString();
+	}
+
+	/**
+	 * Class contains span of the timeline
+	 */
+	private final class Span {
+
+		private final String name;
+		private final String category;
+		private final long startNanos;
+		private final long threadId;
+
+		Span(String name, String category, long startNanos, long threadId) {
+			this.name = name;
+			this.category = category;
+			this.startNanos = startNanos;
+			this.threadId = threadId;
+		}
+
+		String toEvent(long endNanos, String status) {
+			return String.format("{\"name\":%s,\"cat\":%s,\"ph\":\"X\",\"ts\":%d,\"dur\":%d,\"pid\":1,\"tid\":%d%s}",
+			        quote(name), quote(category), micros(startNanos), Math.max((endNanos - startNanos) / 1000, 0),
+			        threadId, status == null ? "" : ",\"args\":{\"status\":" + quote(status) + "}");
+		}
+
+	}
+
+	/**
+	 * Class contains events of one thread. Events of background threads are
+	 * added by these threads, so access to the events is synchronized
+	 */
+	private final class ThreadTrace {
+
+		private final long threadId;
+		private final String threadName;
+		private final List<String> events = new ArrayList<>();
+		private final Deque<Span> methods = new ArrayDeque<>();
+		private final List<String> serviceKeys = new ArrayList<>();
+		private final List<Span> services = new ArrayList<>();
+		private long lastCommandEnd;
+
+		ThreadTrace(Thread thread) {
+			this.threadId = thread.getId();
+			// virtual threads have no names
+			this.threadName = thread.getName().isEmpty() ? "thread-" + thread.getId() : thread.getName();
+		}
+
+		String getThreadName() {
+			return String.format("{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":1,\"tid\":%d,\"args\":{\"name\":%s}}",
+			        threadId, quote(threadName));
+		}
+
+		synchronized void begin(String name, String category, long nanos) {
+			closeServices(0);
+			methods.push(new Span(name, category, nanos, threadId));
+		}
+
+		synchronized void end(String status, long nanos) {
+			closeServices(0);
+			Span span = methods.poll();
+			if (span != null) {
+				events.add(span.toEvent(nanos, status));
+			}
+		}
+
+		synchronized void command(List<String> keys, String command, long startNanos, long nanos) {
+			int common = 0;
+			while (common < keys.size() && common < serviceKeys.size() && keys.get(common).equals(serviceKeys.get(common))) {
+				common++;
+			}
+			closeServices(common);
+			for (int i = common; i < keys.size(); i++) {
+				String key = keys.get(i);
+				int separator = key.indexOf(KEY_SEPARATOR);
+				serviceKeys.add(key);
+				services.add(new Span(separator < 0 ? key : key.substring(0, separator), "service", startNanos, threadId));
+			}
+			events.add(new Span(command, "command", startNanos, threadId).toEvent(startNanos + nanos, null));
+			lastCommandEnd = startNanos + nanos;
+		}
+
+		synchronized void adopt(List<String> adopted) {
+			events.addAll(adopted);
+		}
+
+		synchronized List<String> drain(long nanos) {
+			closeServices(0);
+			while (!methods.isEmpty()) {
+				end("unfinished", nanos);
+			}
+			List<String> result = new ArrayList<>(events);
+			events.clear();
+			return result;
+		}
+
+		private void closeServices(int count) {
+			for (int i = services.size() - 1; i >= count; i--) {
+				events.add(services.remove(i).toEvent(lastCommandEnd, null));
+				serviceKeys.remove(i);
+			}
+		}
+
+	}
+
+}
\ No newline at end of file